@@ -43,6 +43,16 @@ public final class JRandomly {
     private final long instanceSeed;
     private final String scopeLabel;
 
+    /**
+     * Cached per instance: time-ordered ID generators keep their virtual clock on the module.
+     */
+    private IdRandomly id;
+    private FinanceRandomly finance;
+    private MaybeContext maybe;
+    private DateTimeRandomly dateTime;
+    private DateTimeRandomly defaultDateTime;
+    private Map<ZoneId, DateTimeRandomly> dateTimeByZone;
+
     private static String initialCaller;
 
     private JRandomly(JRandomlyConfig config, RandomGenerator rng, long instanceSeed, String scopeLabel) {
@@ -153,32 +163,57 @@ public final class JRandomly {
     // --- Core modules ---
 
     /**
-     * Returns a DateTimeRandomly instance for generating date and time values.
+     * Returns a DateTimeRandomly instance for generating date and time values in the
+     * system default zone. Modules are cached per zone for this instance.
+     * <p>
+     * The default zone is resolved on the first call and pinned for this instance, like
+     * {@link #getRunStartTime()}; later changes of the JVM default zone are not picked up.
      *
      * @return DateTimeRandomly instance
      */
     public DateTimeRandomly dateTime() {
-        return new DateTimeRandomly(this, ZoneId.systemDefault());
+        DateTimeRandomly module = defaultDateTime;
+        if (module == null) {
+            module = dateTime(ZoneId.systemDefault());
+            defaultDateTime = module;
+        }
+        return module;
     }
 
     /**
      * Returns a DateTimeRandomly instance for generating date and time values in the specified zone.
+     * Modules are cached per zone for this instance.
      *
      * @param zoneId zone ID for date and time generation
      * @return DateTimeRandomly instance
      */
     public DateTimeRandomly dateTime(ZoneId zoneId) {
         Objects.requireNonNull(zoneId, "zoneId");
-        return new DateTimeRandomly(this, zoneId);
+        DateTimeRandomly last = dateTime;
+        if (last != null && last.zoneId().equals(zoneId)) {
+            return last;
+        }
+        if (dateTimeByZone == null) {
+            dateTimeByZone = new HashMap<>();
+        }
+        DateTimeRandomly module = dateTimeByZone.computeIfAbsent(zoneId, z -> new DateTimeRandomly(this, z));
+        dateTime = module;
+        return module;
     }
 
     /**
-     * Returns an IdRandomly instance for generating unique identifiers.
+     * Returns the IdRandomly instance for generating unique identifiers.
+     * <p>
+     * The module is created once per JRandomly instance, so stateful generators
+     * (e.g. time-ordered IDs) continue their sequence across calls.
      *
      * @return IdRandomly instance
      */
     public IdRandomly id() {
-        return new IdRandomly(this);
+        if (id == null) {
+            id = new IdRandomly(this);
+        }
+        return id;
     }
 
     /**
@@ -193,12 +228,15 @@ public final class JRandomly {
     // --- Maybe ---
 
     /**
-     * Returns a MaybeContext instance for generating optional values.
+     * Returns the MaybeContext of this instance for generating optional values with the configured maybe rate.
      *
      * @return MaybeContext instance
      */
     public MaybeContext maybe() {
-        return new MaybeContext(rng, config.maybeRate());
+        if (maybe == null) {
+            maybe = new MaybeContext(rng, config.maybeRate());
+        }
+        return maybe;
     }
 
     /**
@@ -251,7 +289,10 @@ public final class JRandomly {
      * @return FinanceRandomly instance
      */
     public FinanceRandomly finance() {
-        return new FinanceRandomly(this);
+        if (finance == null) {
+            finance = new FinanceRandomly(this);
+        }
+        return finance;
     }
 
     // --- Core utilities ---
@@ -265,6 +306,15 @@ public final class JRandomly {
         return rng.nextBoolean();
     }
 
+    /**
+     * Returns a random long drawn uniformly over the full 64-bit range.
+     *
+     * @return random long value
+     */
+    public long nextLong() {
+        return rng.nextLong();
+    }
+
     /**
      * Returns a random int in the range [lowerInclusive, upperInclusive].
      *
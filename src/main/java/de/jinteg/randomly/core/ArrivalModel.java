@@ -0,0 +1,140 @@
+package de.jinteg.randomly.core;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Arrival process for {@link DateTimeRandomly#events(java.time.Instant, java.time.Instant, ArrivalModel)}.
+ * <p>
+ * All models have a piecewise-constant rate, so arrivals are generated exactly from
+ * exponential spacings: events come out already sorted and nothing is buffered.
+ * Rates are in events per second.
+ */
+public sealed interface ArrivalModel {
+
+    /**
+     * Homogeneous Poisson process.
+     *
+     * @param eventsPerSecond arrival rate (&gt; 0)
+     */
+    record Poisson(double eventsPerSecond) implements ArrivalModel {
+
+        /**
+         * Validates the rate.
+         *
+         * @throws IllegalArgumentException if the rate is not positive and finite
+         */
+        public Poisson {
+            requireRate(eventsPerSecond, "eventsPerSecond");
+            if (eventsPerSecond == 0) throw new IllegalArgumentException("eventsPerSecond must be > 0");
+        }
+    }
+
+    /**
+     * Two-state Markov-modulated Poisson process: calm periods alternate with bursts.
+     * Period lengths are exponentially distributed around their means; the process
+     * starts in the calm state.
+     *
+     * @param calmRate  arrival rate during calm periods (&gt;= 0)
+     * @param burstRate arrival rate during bursts (&gt;= 0)
+     * @param meanCalm  mean length of a calm period
+     * @param meanBurst mean length of a burst
+     */
+    record Bursty(double calmRate, double burstRate, Duration meanCalm, Duration meanBurst) implements ArrivalModel {
+
+        /**
+         * Validates rates and period lengths.
+         *
+         * @throws IllegalArgumentException if a rate is negative or a mean period is not positive
+         */
+        public Bursty {
+            requireRate(calmRate, "calmRate");
+            requireRate(burstRate, "burstRate");
+            Objects.requireNonNull(meanCalm, "meanCalm");
+            Objects.requireNonNull(meanBurst, "meanBurst");
+            if (meanCalm.isNegative() || meanCalm.isZero()) {
+                throw new IllegalArgumentException("meanCalm must be positive");
+            }
+            if (meanBurst.isNegative() || meanBurst.isZero()) {
+                throw new IllegalArgumentException("meanBurst must be positive");
+            }
+        }
+    }
+
+    /**
+     * Business-hours intensity curve: {@code peakRate} on business days between {@code open}
+     * (inclusive) and {@code close} (exclusive) local time, {@code offPeakRate} otherwise.
+     * Local time follows the zone of the generating {@link DateTimeRandomly}, including DST shifts.
+     *
+     * @param peakRate     rate during business hours (&gt;= 0)
+     * @param offPeakRate  rate outside business hours and on other days (&gt;= 0)
+     * @param open         start of business hours
+     * @param close        end of business hours (after {@code open})
+     * @param businessDays days of week with business hours
+     */
+    record BusinessHours(double peakRate, double offPeakRate, LocalTime open, LocalTime close,
+                         Set<DayOfWeek> businessDays) implements ArrivalModel {
+
+        /**
+         * Validates rates and hours and takes an immutable copy of the business days.
+         *
+         * @throws IllegalArgumentException if a rate is negative or {@code open} is not before {@code close}
+         */
+        public BusinessHours {
+            requireRate(peakRate, "peakRate");
+            requireRate(offPeakRate, "offPeakRate");
+            Objects.requireNonNull(open, "open");
+            Objects.requireNonNull(close, "close");
+            Objects.requireNonNull(businessDays, "businessDays");
+            if (!open.isBefore(close)) throw new IllegalArgumentException("open must be before close");
+            businessDays = Set.copyOf(businessDays);
+        }
+    }
+
+    /**
+     * Returns a homogeneous Poisson model.
+     *
+     * @param eventsPerSecond arrival rate
+     * @return Poisson model
+     */
+    static ArrivalModel poisson(double eventsPerSecond) {
+        return new Poisson(eventsPerSecond);
+    }
+
+    /**
+     * Returns a bursty (two-state MMPP) model.
+     *
+     * @param calmRate  rate during calm periods
+     * @param burstRate rate during bursts
+     * @param meanCalm  mean calm period length
+     * @param meanBurst mean burst length
+     * @return bursty model
+     */
+    static ArrivalModel bursty(double calmRate, double burstRate, Duration meanCalm, Duration meanBurst) {
+        return new Bursty(calmRate, burstRate, meanCalm, meanBurst);
+    }
+
+    /**
+     * Returns a business-hours model with Monday to Friday as business days.
+     *
+     * @param peakRate    rate during business hours
+     * @param offPeakRate rate outside business hours and on weekends
+     * @param open        start of business hours
+     * @param close       end of business hours
+     * @return business-hours model
+     */
+    static ArrivalModel businessHours(double peakRate, double offPeakRate, LocalTime open, LocalTime close) {
+        return new BusinessHours(peakRate, offPeakRate, open, close,
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+    }
+
+    private static void requireRate(double rate, String name) {
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException(name + " must be >= 0 and finite");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package de.jinteg.randomly.core;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.random.RandomGenerator;
+
+/**
+ * Lazily generated, ascending event timestamps (epoch nanos) for an {@link ArrivalModel}.
+ * <p>
+ * The time axis is split into segments of constant rate. Each event consumes an Exp(1)
+ * hazard budget; the budget is spent segment by segment until it runs out, which places
+ * the event exactly where the integrated rate reaches it. Memory use is O(1).
+ */
+final class ArrivalProcess implements PrimitiveIterator.OfLong {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final int MAX_DAYS_TO_SCAN = 8;
+
+    private final ArrivalModel model;
+    private final ZoneId zoneId;
+    private final RandomGenerator rng;
+    private final long endNanos;
+
+    private long now;
+    private double ratePerNano;
+    private long segmentEnd;
+    private boolean burst;
+
+    private boolean ready;
+    private boolean exhausted;
+    private long pending;
+
+    ArrivalProcess(ArrivalModel model, ZoneId zoneId, RandomGenerator rng, long fromNanos, long toNanos) {
+        this.model = model;
+        this.zoneId = zoneId;
+        this.rng = rng;
+        this.endNanos = toNanos;
+        this.now = fromNanos;
+        startSegment();
+    }
+
+    static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!ready && !exhausted) {
+            advance();
+        }
+        return ready;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) throw new NoSuchElementException();
+        ready = false;
+        return pending;
+    }
+
+    private void advance() {
+        double budget = rng.nextExponential();
+        while (true) {
+            long remaining = segmentEnd - now;
+            if (ratePerNano > 0) {
+                double needed = budget / ratePerNano;
+                if (needed < remaining) {
+                    now += (long) needed;
+                    pending = now;
+                    ready = true;
+                    return;
+                }
+                budget -= remaining * ratePerNano;
+            }
+            now = segmentEnd;
+            if (now >= endNanos) {
+                exhausted = true;
+                return;
+            }
+            startSegment();
+        }
+    }
+
+    /**
+     * Sets {@link #ratePerNano} and {@link #segmentEnd} for the segment starting at {@link #now}.
+     */
+    private void startSegment() {
+        long end = switch (model) {
+            case ArrivalModel.Poisson p -> {
+                ratePerNano = p.eventsPerSecond() / NANOS_PER_SECOND;
+                yield Long.MAX_VALUE;
+            }
+            case ArrivalModel.Bursty b -> {
+                double rate = burst ? b.burstRate() : b.calmRate();
+                long mean = (burst ? b.meanBurst() : b.meanCalm()).toNanos();
+                ratePerNano = rate / NANOS_PER_SECOND;
+                burst = !burst;
+                long length = Math.max(1L, (long) (rng.nextExponential() * mean));
+                yield now + Math.min(length, endNanos - now);
+            }
+            case ArrivalModel.BusinessHours h -> businessHoursSegment(h);
+        };
+        segmentEnd = Math.min(Math.max(end, now + 1), endNanos);
+    }
+
+    private long businessHoursSegment(ArrivalModel.BusinessHours h) {
+        ZonedDateTime local = Instant.ofEpochSecond(Math.floorDiv(now, 1_000_000_000L), Math.floorMod(now, 1_000_000_000L))
+                .atZone(zoneId);
+        LocalDate date = local.toLocalDate();
+        LocalTime time = local.toLocalTime();
+
+        if (isBusinessDay(h, date.getDayOfWeek())) {
+            if (time.isBefore(h.open())) {
+                ratePerNano = h.offPeakRate() / NANOS_PER_SECOND;
+                return nanosAt(date, h.open());
+            }
+            if (time.isBefore(h.close())) {
+                ratePerNano = h.peakRate() / NANOS_PER_SECOND;
+                return nanosAt(date, h.close());
+            }
+        }
+        // Off-peak until the next business day opens.
+        ratePerNano = h.offPeakRate() / NANOS_PER_SECOND;
+        for (int i = 1; i <= MAX_DAYS_TO_SCAN; i++) {
+            LocalDate next = date.plusDays(i);
+            if (isBusinessDay(h, next.getDayOfWeek())) {
+                return nanosAt(next, h.open());
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static boolean isBusinessDay(ArrivalModel.BusinessHours h, DayOfWeek day) {
+        return h.businessDays().contains(day);
+    }
+
+    private long nanosAt(LocalDate date, LocalTime time) {
+        // ZonedDateTime.of resolves DST gaps and overlaps with the zone rules.
+        return toEpochNanos(ZonedDateTime.of(date, time, zoneId).toInstant());
+    }
+}
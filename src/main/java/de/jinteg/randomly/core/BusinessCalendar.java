@@ -0,0 +1,339 @@
+package de.jinteg.randomly.core;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Working days, holidays and an optional trading session for business-aware date sampling.
+ * <p>
+ * Eligible days are precomputed into one bitmap with a per-word rank index that is cached on
+ * the calendar and grows to cover every queried range, so sampling any range inside it is one
+ * draw plus two rank lookups and a select. Instances are thread-safe; reuse them to benefit
+ * from the index.
+ *
+ * @see DateTimeRandomly#businessDayBetween(LocalDate, LocalDate, BusinessCalendar)
+ */
+public final class BusinessCalendar {
+
+    /**
+     * Largest span kept in the shared index (about 46,000 years, 3 MB); longer ranges are indexed per call.
+     */
+    private static final long MAX_SPAN_DAYS = 1L << 24;
+
+    private final int workingDayMask;
+    private final Set<LocalDate> holidays;
+    private final LocalTime sessionOpen;
+    private final LocalTime sessionClose;
+
+    private volatile Span span;
+    private int spanBuilds;
+
+    private BusinessCalendar(Builder builder) {
+        int mask = 0;
+        for (DayOfWeek day : builder.workingDays) {
+            mask |= 1 << day.ordinal();
+        }
+        this.workingDayMask = mask;
+        this.holidays = Set.copyOf(builder.holidays);
+        this.sessionOpen = builder.sessionOpen;
+        this.sessionClose = builder.sessionClose;
+    }
+
+    /**
+     * Returns a calendar with Monday to Friday as working days, no holidays and no session.
+     *
+     * @return weekday calendar
+     */
+    public static BusinessCalendar weekdays() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a new builder, initialized with Monday to Friday as working days.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns whether the given date is a working day and not a holiday.
+     *
+     * @param date date to check
+     * @return {@code true} if the date is a business day
+     */
+    public boolean isBusinessDay(LocalDate date) {
+        Objects.requireNonNull(date, "date");
+        return isWorkingDay(date.toEpochDay()) && !holidays.contains(date);
+    }
+
+    /**
+     * Returns the number of business days between {@code from} and {@code to} (both inclusive).
+     *
+     * @param from start date
+     * @param to   end date
+     * @return number of business days
+     */
+    public int countBusinessDays(LocalDate from, LocalDate to) {
+        return index(from, to).count();
+    }
+
+    /**
+     * Returns the start of the trading session, or {@code null} if the calendar has no session.
+     *
+     * @return session start or {@code null}
+     */
+    public LocalTime sessionOpen() {
+        return sessionOpen;
+    }
+
+    /**
+     * Returns the end of the trading session (exclusive), or {@code null} if the calendar has no session.
+     *
+     * @return session end or {@code null}
+     */
+    public LocalTime sessionClose() {
+        return sessionClose;
+    }
+
+    /**
+     * Returns the eligible seconds per business day: the session length, or a full day without session.
+     */
+    long secondsPerDay() {
+        return sessionOpen == null ? 86_400L : sessionClose.toSecondOfDay() - sessionOpen.toSecondOfDay();
+    }
+
+    /**
+     * Returns the first eligible second of a business day.
+     */
+    long firstSecondOfDay() {
+        return sessionOpen == null ? 0L : sessionOpen.toSecondOfDay();
+    }
+
+    DayIndex index(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        if (from.isAfter(to)) throw new IllegalArgumentException("from must not be after to");
+
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        Span s = span;
+        if (s == null || fromDay < s.firstDay || toDay > s.lastDay) {
+            s = toDay - fromDay + 1 > MAX_SPAN_DAYS ? buildSpan(fromDay, toDay) : extendSpan(fromDay, toDay);
+        }
+        int firstRank = s.rank(fromDay);
+        return new DayIndex(s, firstRank, s.rank(toDay + 1) - firstRank);
+    }
+
+    /**
+     * Returns how often the shared span index has been built, for tests.
+     */
+    synchronized int spanBuilds() {
+        return spanBuilds;
+    }
+
+    private synchronized Span extendSpan(long fromDay, long toDay) {
+        Span s = span;
+        long first = fromDay;
+        long last = toDay;
+        if (s != null) {
+            if (fromDay >= s.firstDay && toDay <= s.lastDay) return s;
+            // Grow by at least the current length in each direction that needs it, so a sequence
+            // of widening queries rebuilds only a logarithmic number of times.
+            long length = s.lastDay - s.firstDay + 1;
+            first = fromDay < s.firstDay ? Math.min(fromDay, s.firstDay - length) : s.firstDay;
+            last = toDay > s.lastDay ? Math.max(toDay, s.lastDay + length) : s.lastDay;
+            if (last - first + 1 > MAX_SPAN_DAYS) {
+                first = Math.min(fromDay, s.firstDay);
+                last = Math.max(toDay, s.lastDay);
+                if (last - first + 1 > MAX_SPAN_DAYS) return buildSpan(fromDay, toDay);
+            }
+        }
+        s = buildSpan(first, last);
+        span = s;
+        spanBuilds++;
+        return s;
+    }
+
+    private Span buildSpan(long firstDay, long lastDay) {
+        long days = lastDay - firstDay + 1;
+        if (days > Integer.MAX_VALUE) throw new IllegalArgumentException("range is too large");
+
+        long[] words = new long[(int) ((days + 63) >>> 6)];
+        for (int i = 0; i < days; i++) {
+            if (isWorkingDay(firstDay + i)) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        for (LocalDate holiday : holidays) {
+            long i = holiday.toEpochDay() - firstDay;
+            if (i >= 0 && i < days) {
+                words[(int) (i >>> 6)] &= ~(1L << i);
+            }
+        }
+        return new Span(firstDay, lastDay, words);
+    }
+
+    private boolean isWorkingDay(long epochDay) {
+        // 1970-01-01 was a Thursday; ordinal 0 is Monday.
+        int dayOfWeek = (int) Math.floorMod(epochDay + 3, 7L);
+        return (workingDayMask & (1 << dayOfWeek)) != 0;
+    }
+
+    /**
+     * Eligible days of one queried range: a rank window into the shared span.
+     */
+    static final class DayIndex {
+
+        private final Span span;
+        private final int firstRank;
+        private final int count;
+
+        DayIndex(Span span, int firstRank, int count) {
+            this.span = span;
+            this.firstRank = firstRank;
+            this.count = count;
+        }
+
+        int count() {
+            return count;
+        }
+
+        /**
+         * Returns the epoch day of the eligible day with the given zero-based rank in the range.
+         */
+        long select(int rank) {
+            return span.select(firstRank + rank);
+        }
+    }
+
+    /**
+     * Bitmap of eligible days over {@code [firstDay, lastDay]} with the number of set bits before each word.
+     */
+    private static final class Span {
+
+        private final long firstDay;
+        private final long lastDay;
+        private final long[] words;
+        private final int[] rankBefore;
+        private final int total;
+
+        Span(long firstDay, long lastDay, long[] words) {
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+            this.words = words;
+            this.rankBefore = new int[words.length];
+            int sum = 0;
+            for (int w = 0; w < words.length; w++) {
+                rankBefore[w] = sum;
+                sum += Long.bitCount(words[w]);
+            }
+            this.total = sum;
+        }
+
+        /**
+         * Returns the number of eligible days in {@code [firstDay, epochDay)}; {@code epochDay} may be {@code lastDay + 1}.
+         */
+        int rank(long epochDay) {
+            long i = epochDay - firstDay;
+            int w = (int) (i >>> 6);
+            if (w == words.length) return total;
+            return rankBefore[w] + Long.bitCount(words[w] & ((1L << i) - 1));
+        }
+
+        /**
+         * Returns the epoch day of the eligible day with the given zero-based rank in the span.
+         */
+        long select(int rank) {
+            int lo = 0;
+            int hi = words.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (rankBefore[mid] <= rank) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            long word = words[lo];
+            for (int i = rank - rankBefore[lo]; i > 0; i--) {
+                word &= word - 1;
+            }
+            return firstDay + ((long) lo << 6) + Long.numberOfTrailingZeros(word);
+        }
+    }
+
+    /**
+     * Fluent builder for {@link BusinessCalendar} instances.
+     */
+    public static final class Builder {
+        private final Set<DayOfWeek> workingDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        private final Set<LocalDate> holidays = new HashSet<>();
+        private LocalTime sessionOpen;
+        private LocalTime sessionClose;
+
+        private Builder() {
+        }
+
+        /**
+         * Replaces the working days.
+         *
+         * @param days working days; must not be null
+         * @return this builder
+         */
+        public Builder withWorkingDays(Collection<DayOfWeek> days) {
+            Objects.requireNonNull(days, "days");
+            workingDays.clear();
+            workingDays.addAll(days);
+            return this;
+        }
+
+        /**
+         * Adds holidays, which are excluded even if they fall on a working day.
+         *
+         * @param dates holiday dates; must not be null
+         * @return this builder
+         */
+        public Builder withHolidays(Collection<LocalDate> dates) {
+            Objects.requireNonNull(dates, "dates");
+            for (LocalDate date : dates) {
+                holidays.add(Objects.requireNonNull(date, "holiday"));
+            }
+            return this;
+        }
+
+        /**
+         * Restricts date-times to a daily trading session.
+         *
+         * @param open  session start (inclusive, second precision)
+         * @param close session end (exclusive, second precision); must be after {@code open}
+         * @return this builder
+         */
+        public Builder withSession(LocalTime open, LocalTime close) {
+            Objects.requireNonNull(open, "open");
+            Objects.requireNonNull(close, "close");
+            if (open.toSecondOfDay() >= close.toSecondOfDay()) {
+                throw new IllegalArgumentException("open must be at least one second before close");
+            }
+            this.sessionOpen = open;
+            this.sessionClose = close;
+            return this;
+        }
+
+        /**
+         * Builds the calendar.
+         *
+         * @return calendar
+         */
+        public BusinessCalendar build() {
+            return new BusinessCalendar(this);
+        }
+    }
+}
@@ -1,19 +1,38 @@
 package de.jinteg.randomly.core;
 
 import de.jinteg.randomly.JRandomly;
+import de.jinteg.randomly.internal.SplitMix64;
 
 import java.time.*;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides random date and time values.
  */
 public final class DateTimeRandomly {
 
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long MILLIS_PER_DAY = SECONDS_PER_DAY * 1_000L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_DAY = SECONDS_PER_DAY * NANOS_PER_SECOND;
+
     private final JRandomly randomly;
     private final ZoneId zoneId;
 
+    // Anchor values are fixed per instance; resolving them once avoids zone-rule lookups per call.
+    private final Instant anchor;
+    private final long anchorEpochSecond;
+    private final long anchorEpochMilli;
+    private final ZoneOffset anchorOffset;
+    private final LocalDateTime anchorLocalDateTime;
+    private final LocalDate anchorLocalDate;
+    private final long anchorEpochDay;
+
     /**
      * Constructor.
      *
@@ -23,6 +42,32 @@ public final class DateTimeRandomly {
     public DateTimeRandomly(JRandomly randomly, ZoneId zoneId) {
         this.randomly = Objects.requireNonNull(randomly, "randomly must not be null");
         this.zoneId = Objects.requireNonNull(zoneId, "zoneId");
+
+        this.anchor = randomly.getRunStartTime();
+        this.anchorEpochSecond = anchor.getEpochSecond();
+        this.anchorEpochMilli = anchor.toEpochMilli();
+        this.anchorOffset = zoneId.getRules().getOffset(anchor);
+        this.anchorLocalDateTime = LocalDateTime.ofEpochSecond(anchorEpochSecond, anchor.getNano(), anchorOffset);
+        this.anchorLocalDate = anchorLocalDateTime.toLocalDate();
+        this.anchorEpochDay = anchorLocalDate.toEpochDay();
+    }
+
+    /**
+     * Returns the time zone used for local date and time values.
+     *
+     * @return time zone
+     */
+    public ZoneId zoneId() {
+        return zoneId;
+    }
+
+    /**
+     * Returns the zone offset in effect at the anchor time.
+     *
+     * @return zone offset at the anchor time
+     */
+    public ZoneOffset anchorOffset() {
+        return anchorOffset;
     }
 
     // --- Instant ---
@@ -33,7 +78,7 @@ public final class DateTimeRandomly {
      * @return current instant
      */
     public Instant instant() {
-        return randomly.getRunStartTime();
+        return anchor;
     }
 
     /**
@@ -45,7 +90,7 @@ public final class DateTimeRandomly {
     public Instant instantBefore(int maxSecondsBack) {
         if (maxSecondsBack < 1) throw new IllegalArgumentException("maxSecondsBack must be >= 1");
         long offset = randomly.intBetween(1, maxSecondsBack);
-        return randomly.getRunStartTime().minusSeconds(offset);
+        return anchor.minusSeconds(offset);
     }
 
     /**
@@ -65,6 +110,50 @@ public final class DateTimeRandomly {
         return from.plusSeconds(offset);
     }
 
+    /**
+     * Returns a random instant between {@code from} and {@code to} (both inclusive) at the given
+     * precision. Results lie on the epoch-aligned grid of {@code unit}, i.e.
+     * {@code result.truncatedTo(unit).equals(result)}, and are derived from a single draw.
+     *
+     * @param from start of range
+     * @param to   end of range
+     * @param unit precision, from {@link ChronoUnit#NANOS} up to {@link ChronoUnit#DAYS}
+     * @return random instant
+     * @throws IllegalArgumentException if the unit is not supported, the range exceeds what the
+     *                                  unit can count in a long (about &plusmn;292 years around the
+     *                                  epoch for {@code NANOS}), or no grid point lies in the range
+     */
+    public Instant instantBetween(Instant from, Instant to, ChronoUnit unit) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        long unitNanos = unitNanos(unit);
+        if (!from.isBefore(to)) throw new IllegalArgumentException("from must be before to");
+
+        long lo;
+        long hi;
+        if (unitNanos >= NANOS_PER_SECOND) {
+            long unitSeconds = unitNanos / NANOS_PER_SECOND;
+            boolean aligned = Math.floorMod(from.getEpochSecond(), unitSeconds) == 0 && from.getNano() == 0;
+            lo = Math.floorDiv(from.getEpochSecond(), unitSeconds) + (aligned ? 0 : 1);
+            hi = Math.floorDiv(to.getEpochSecond(), unitSeconds);
+            if (lo > hi) throw new IllegalArgumentException("no " + unit + " boundary between from and to");
+            return Instant.ofEpochSecond(randomly.longBetween(lo, hi) * unitSeconds);
+        }
+
+        long perSecond = NANOS_PER_SECOND / unitNanos;
+        long maxEpochSecond = Long.MAX_VALUE / perSecond - 1;
+        if (from.getEpochSecond() < -maxEpochSecond || to.getEpochSecond() > maxEpochSecond) {
+            throw new IllegalArgumentException("from and to must be within " + maxEpochSecond
+                    + " seconds of the epoch at " + unit + " precision");
+        }
+        lo = from.getEpochSecond() * perSecond + from.getNano() / unitNanos
+                + (from.getNano() % unitNanos == 0 ? 0 : 1);
+        hi = to.getEpochSecond() * perSecond + to.getNano() / unitNanos;
+        if (lo > hi) throw new IllegalArgumentException("no " + unit + " boundary between from and to");
+        long k = randomly.longBetween(lo, hi);
+        return Instant.ofEpochSecond(Math.floorDiv(k, perSecond), Math.floorMod(k, perSecond) * unitNanos);
+    }
+
     /**
      * Returns a random instant in the past, between {@code minDaysBack} and {@code maxDaysBack}
      * days before the anchor time.
@@ -77,7 +166,6 @@ public final class DateTimeRandomly {
         if (minDaysBack < 0) throw new IllegalArgumentException("minDaysBack must be >= 0");
         if (maxDaysBack < minDaysBack) throw new IllegalArgumentException("maxDaysBack must be >= minDaysBack");
 
-        Instant anchor = randomly.getRunStartTime();
         Instant from = anchor.minus(Duration.ofDays(maxDaysBack));
         Instant to = anchor.minus(Duration.ofDays(minDaysBack));
         return instantBetween(from, to);
@@ -95,7 +183,6 @@ public final class DateTimeRandomly {
         if (minDaysAhead < 0) throw new IllegalArgumentException("minDaysAhead must be >= 0");
         if (maxDaysAhead < minDaysAhead) throw new IllegalArgumentException("maxDaysAhead must be >= minDaysAhead");
 
-        Instant anchor = randomly.getRunStartTime();
         Instant from = anchor.plus(Duration.ofDays(minDaysAhead));
         Instant to = anchor.plus(Duration.ofDays(maxDaysAhead));
         return instantBetween(from, to);
@@ -134,7 +221,7 @@ public final class DateTimeRandomly {
      * @return random local date
      */
     public LocalDate localDate() {
-        return anchorLocalDate();
+        return anchorLocalDate;
     }
 
     /**
@@ -146,7 +233,7 @@ public final class DateTimeRandomly {
     public LocalDate localDateBefore(int maxDaysBack) {
         if (maxDaysBack < 1) throw new IllegalArgumentException("maxDaysBack must be >= 1");
         int days = randomly.intBetween(1, maxDaysBack);
-        return anchorLocalDate().minusDays(days);
+        return anchorLocalDate.minusDays(days);
     }
 
     /**
@@ -166,6 +253,60 @@ public final class DateTimeRandomly {
         return from.plusDays(offset);
     }
 
+    /**
+     * Returns a random business day between {@code from} and {@code to} (both inclusive).
+     * Uses one draw and rank lookups in the calendar's shared day index.
+     *
+     * @param from     start date (inclusive)
+     * @param to       end date (inclusive)
+     * @param calendar business calendar
+     * @return random business day
+     * @throws IllegalArgumentException if the range contains no business day
+     */
+    public LocalDate businessDayBetween(LocalDate from, LocalDate to, BusinessCalendar calendar) {
+        Objects.requireNonNull(calendar, "calendar");
+        BusinessCalendar.DayIndex index = calendar.index(from, to);
+        if (index.count() == 0) throw new IllegalArgumentException("no business day between from and to");
+
+        return LocalDate.ofEpochDay(index.select(randomly.intBetween(0, index.count() - 1)));
+    }
+
+    /**
+     * Returns a random business day before the anchor date, at most {@code maxDaysBack} days back.
+     *
+     * @param maxDaysBack maximum number of days back
+     * @param calendar    business calendar
+     * @return random business day
+     * @throws IllegalArgumentException if the range contains no business day
+     */
+    public LocalDate businessDayBefore(int maxDaysBack, BusinessCalendar calendar) {
+        if (maxDaysBack < 1) throw new IllegalArgumentException("maxDaysBack must be >= 1");
+        return businessDayBetween(anchorLocalDate.minusDays(maxDaysBack), anchorLocalDate.minusDays(1), calendar);
+    }
+
+    /**
+     * Returns a random local date-time on a business day between {@code from} and {@code to}
+     * (both inclusive), within the calendar's trading session if it has one. Uses one draw over
+     * all eligible seconds, so every eligible second is equally likely.
+     *
+     * @param from     start date (inclusive)
+     * @param to       end date (inclusive)
+     * @param calendar business calendar
+     * @return random local date-time
+     * @throws IllegalArgumentException if the range contains no business day
+     */
+    public LocalDateTime businessDateTimeBetween(LocalDate from, LocalDate to, BusinessCalendar calendar) {
+        Objects.requireNonNull(calendar, "calendar");
+        BusinessCalendar.DayIndex index = calendar.index(from, to);
+        if (index.count() == 0) throw new IllegalArgumentException("no business day between from and to");
+
+        long secondsPerDay = calendar.secondsPerDay();
+        long draw = randomly.longBetween(0, index.count() * secondsPerDay - 1);
+        long epochDay = index.select((int) (draw / secondsPerDay));
+        long secondOfDay = calendar.firstSecondOfDay() + draw % secondsPerDay;
+        return LocalDateTime.ofEpochSecond(epochDay * SECONDS_PER_DAY + secondOfDay, 0, ZoneOffset.UTC);
+    }
+
     // --- LocalDateTime ---
 
     /**
@@ -174,7 +315,7 @@ public final class DateTimeRandomly {
      * @return random local date-time
      */
     public LocalDateTime localDateTime() {
-        return anchorLocalDateTime();
+        return anchorLocalDateTime;
     }
 
     /**
@@ -188,7 +329,7 @@ public final class DateTimeRandomly {
         int days = randomly.intBetween(1, maxDaysBack);
         int hours = randomly.intBetween(0, 23);
         int minutes = randomly.intBetween(0, 59);
-        return anchorLocalDateTime().minusDays(days).minusHours(hours).minusMinutes(minutes);
+        return anchorLocalDateTime.minusDays(days).minusHours(hours).minusMinutes(minutes);
     }
 
     // --- LocalTime ---
@@ -205,6 +346,23 @@ public final class DateTimeRandomly {
         return LocalTime.of(hour, minute, second);
     }
 
+    /**
+     * Returns a random local time at the given precision, derived from a single draw over all
+     * {@code unit} steps of the day.
+     *
+     * @param unit precision, from {@link ChronoUnit#NANOS} up to {@link ChronoUnit#HALF_DAYS}
+     * @return random local time
+     * @throws IllegalArgumentException if the unit is not supported
+     */
+    public LocalTime localTime(ChronoUnit unit) {
+        long unitNanos = unitNanos(unit);
+        if (unitNanos >= NANOS_PER_DAY) {
+            throw new IllegalArgumentException("unit must be between NANOS and HALF_DAYS: " + unit);
+        }
+        long steps = NANOS_PER_DAY / unitNanos;
+        return LocalTime.ofNanoOfDay(randomly.longBetween(0, steps - 1) * unitNanos);
+    }
+
     /**
      * Returns a date in ISO_LOCAL_DATE_TIME format (yyyy-MM-dd'T'HH:mm:ss)
      *
@@ -212,7 +370,8 @@ public final class DateTimeRandomly {
      * @return formatted date-time string
      */
     public String localDateTimeAsIso(LocalDateTime localDateTime) {
-        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(localDateTime);
+        Objects.requireNonNull(localDateTime, "localDateTime");
+        return IsoFormatter.formatLocalDateTime(localDateTime.toEpochSecond(ZoneOffset.UTC), localDateTime.getNano());
     }
 
     /**
@@ -222,7 +381,8 @@ public final class DateTimeRandomly {
      * @return formatted date string
      */
     public String localDateAsIso(LocalDate localDate) {
-        return DateTimeFormatter.ISO_LOCAL_DATE.format(localDate);
+        Objects.requireNonNull(localDate, "localDate");
+        return IsoFormatter.formatLocalDate(localDate.toEpochDay());
     }
 
     /**
@@ -232,16 +392,206 @@ public final class DateTimeRandomly {
      * @return formatted time string
      */
     public String localTimeAsIso(LocalTime localTime) {
-        return DateTimeFormatter.ISO_LOCAL_TIME.format(localTime);
+        Objects.requireNonNull(localTime, "localTime");
+        return IsoFormatter.formatLocalTime(localTime.toNanoOfDay());
     }
 
-    // --- Helpers ---
+    // --- Epoch values (primitive) ---
 
-    private LocalDate anchorLocalDate() {
-        return randomly.getRunStartTime().atZone(zoneId).toLocalDate();
+    /**
+     * Returns a random epoch millisecond between {@code fromMillis} and {@code toMillis} (both inclusive).
+     *
+     * @param fromMillis start of range in Unix milliseconds
+     * @param toMillis   end of range in Unix milliseconds
+     * @return random epoch millisecond
+     */
+    public long epochMillisBetween(long fromMillis, long toMillis) {
+        if (fromMillis >= toMillis) throw new IllegalArgumentException("fromMillis must be before toMillis");
+        return fromMillis + randomly.longBetween(0, Math.subtractExact(toMillis, fromMillis));
     }
 
-    private LocalDateTime anchorLocalDateTime() {
-        return randomly.getRunStartTime().atZone(zoneId).toLocalDateTime();
+    /**
+     * Returns a random epoch second between {@code fromSecond} and {@code toSecond} (both inclusive).
+     *
+     * @param fromSecond start of range in Unix seconds
+     * @param toSecond   end of range in Unix seconds
+     * @return random epoch second
+     */
+    public long epochSecondBetween(long fromSecond, long toSecond) {
+        if (fromSecond >= toSecond) throw new IllegalArgumentException("fromSecond must be before toSecond");
+        return fromSecond + randomly.longBetween(0, Math.subtractExact(toSecond, fromSecond));
+    }
+
+    /**
+     * Returns a random epoch second in the past, between {@code minDaysBack} and {@code maxDaysBack}
+     * days before the anchor time. Uses the same draws as {@link #instantInPast(int, int)}.
+     *
+     * @param minDaysBack minimum number of days back
+     * @param maxDaysBack maximum number of days back
+     * @return random epoch second
+     */
+    public long epochSecondInPast(int minDaysBack, int maxDaysBack) {
+        if (minDaysBack < 0) throw new IllegalArgumentException("minDaysBack must be >= 0");
+        if (maxDaysBack < minDaysBack) throw new IllegalArgumentException("maxDaysBack must be >= minDaysBack");
+
+        return epochSecondBetween(anchorEpochSecond - maxDaysBack * SECONDS_PER_DAY,
+                anchorEpochSecond - minDaysBack * SECONDS_PER_DAY);
+    }
+
+    /**
+     * Returns a random epoch second in the future, between {@code minDaysAhead} and {@code maxDaysAhead}
+     * days after the anchor time. Uses the same draws as {@link #instantInFuture(int, int)}.
+     *
+     * @param minDaysAhead minimum number of days ahead
+     * @param maxDaysAhead maximum number of days ahead
+     * @return random epoch second
+     */
+    public long epochSecondInFuture(int minDaysAhead, int maxDaysAhead) {
+        if (minDaysAhead < 0) throw new IllegalArgumentException("minDaysAhead must be >= 0");
+        if (maxDaysAhead < minDaysAhead) throw new IllegalArgumentException("maxDaysAhead must be >= minDaysAhead");
+
+        return epochSecondBetween(anchorEpochSecond + minDaysAhead * SECONDS_PER_DAY,
+                anchorEpochSecond + maxDaysAhead * SECONDS_PER_DAY);
+    }
+
+    /**
+     * Returns a random epoch millisecond in the past, between {@code minDaysBack} and {@code maxDaysBack}
+     * days before the anchor time.
+     *
+     * @param minDaysBack minimum number of days back
+     * @param maxDaysBack maximum number of days back
+     * @return random epoch millisecond
+     */
+    public long epochMillisInPast(int minDaysBack, int maxDaysBack) {
+        if (minDaysBack < 0) throw new IllegalArgumentException("minDaysBack must be >= 0");
+        if (maxDaysBack < minDaysBack) throw new IllegalArgumentException("maxDaysBack must be >= minDaysBack");
+
+        return epochMillisBetween(anchorEpochMilli - maxDaysBack * MILLIS_PER_DAY,
+                anchorEpochMilli - minDaysBack * MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns a random epoch day between {@code fromDay} and {@code toDay} (both inclusive).
+     * Uses the same draw as {@link #localDateBetween(LocalDate, LocalDate)}.
+     *
+     * @param fromDay start epoch day (inclusive)
+     * @param toDay   end epoch day (inclusive)
+     * @return random epoch day
+     */
+    public long epochDayBetween(long fromDay, long toDay) {
+        if (fromDay >= toDay) throw new IllegalArgumentException("fromDay must be before toDay");
+        return fromDay + randomly.longBetween(0, Math.subtractExact(toDay, fromDay));
+    }
+
+    /**
+     * Returns a random epoch day before the anchor date, at most {@code maxDaysBack} days back.
+     * Uses the same draw as {@link #localDateBefore(int)}.
+     *
+     * @param maxDaysBack maximum number of days back
+     * @return random epoch day
+     */
+    public long epochDayBefore(int maxDaysBack) {
+        if (maxDaysBack < 1) throw new IllegalArgumentException("maxDaysBack must be >= 1");
+        return anchorEpochDay - randomly.intBetween(1, maxDaysBack);
+    }
+
+    /**
+     * Fills {@code dst} with random epoch milliseconds between {@code fromMillis} and
+     * {@code toMillis} (both inclusive).
+     *
+     * @param dst        destination array
+     * @param fromMillis start of range in Unix milliseconds
+     * @param toMillis   end of range in Unix milliseconds
+     */
+    public void fillEpochMillis(long[] dst, long fromMillis, long toMillis) {
+        Objects.requireNonNull(dst, "dst");
+        if (fromMillis >= toMillis) throw new IllegalArgumentException("fromMillis must be before toMillis");
+        long range = Math.subtractExact(toMillis, fromMillis);
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = fromMillis + randomly.longBetween(0, range);
+        }
+    }
+
+    /**
+     * Fills {@code dst} with random epoch milliseconds in the past, between {@code minDaysBack}
+     * and {@code maxDaysBack} days before the anchor time.
+     *
+     * @param dst         destination array
+     * @param minDaysBack minimum number of days back
+     * @param maxDaysBack maximum number of days back
+     */
+    public void fillEpochMillisInPast(long[] dst, int minDaysBack, int maxDaysBack) {
+        if (minDaysBack < 0) throw new IllegalArgumentException("minDaysBack must be >= 0");
+        if (maxDaysBack < minDaysBack) throw new IllegalArgumentException("maxDaysBack must be >= minDaysBack");
+
+        fillEpochMillis(dst, anchorEpochMilli - maxDaysBack * MILLIS_PER_DAY,
+                anchorEpochMilli - minDaysBack * MILLIS_PER_DAY);
+    }
+
+    /**
+     * Fills {@code dst} with random epoch days between {@code fromDay} and {@code toDay} (both inclusive).
+     *
+     * @param dst     destination array
+     * @param fromDay start epoch day (inclusive)
+     * @param toDay   end epoch day (inclusive)
+     */
+    public void fillEpochDays(long[] dst, long fromDay, long toDay) {
+        Objects.requireNonNull(dst, "dst");
+        if (fromDay >= toDay) throw new IllegalArgumentException("fromDay must be before toDay");
+        long range = Math.subtractExact(toDay, fromDay);
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = fromDay + randomly.longBetween(0, range);
+        }
+    }
+
+    // --- Event streams ---
+
+    /**
+     * Returns ascending event timestamps in epoch nanos within {@code [from, to)}, following the
+     * given arrival model. The stream is generated lazily from exponential spacings, so it is
+     * already sorted and uses constant memory regardless of length.
+     * <p>
+     * The stream draws from its own generator, seeded by a single draw from this instance at
+     * call time; consuming it does not affect other values of this instance.
+     *
+     * @param from  start of range (inclusive)
+     * @param to    end of range (exclusive)
+     * @param model arrival model
+     * @return sorted stream of epoch nanos
+     */
+    public LongStream events(Instant from, Instant to, ArrivalModel model) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        Objects.requireNonNull(model, "model");
+        if (!from.isBefore(to)) throw new IllegalArgumentException("from must be before to");
+
+        ArrivalProcess process = new ArrivalProcess(model, zoneId, new SplitMix64(randomly.nextLong()),
+                ArrivalProcess.toEpochNanos(from), ArrivalProcess.toEpochNanos(to));
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(process,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns ascending event timestamps in epoch nanos within the {@code window} that ends at
+     * the anchor time.
+     *
+     * @param window length of the window before the anchor time
+     * @param model  arrival model
+     * @return sorted stream of epoch nanos
+     * @see #events(Instant, Instant, ArrivalModel)
+     */
+    public LongStream eventsInPast(Duration window, ArrivalModel model) {
+        Objects.requireNonNull(window, "window");
+        return events(anchor.minus(window), anchor, model);
+    }
+
+    // --- Helpers ---
+
+    private static long unitNanos(ChronoUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        return switch (unit) {
+            case NANOS, MICROS, MILLIS, SECONDS, MINUTES, HOURS, HALF_DAYS, DAYS -> unit.getDuration().toNanos();
+            default -> throw new IllegalArgumentException("unit must be between NANOS and DAYS: " + unit);
+        };
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,11 @@
 package de.jinteg.randomly.core;
 
 import de.jinteg.randomly.JRandomly;
+import de.jinteg.randomly.internal.SeedDerivation;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -10,19 +14,75 @@ import java.util.UUID;
  * <p>
  * All values are derived from the parent {@link JRandomly} instance's RNG stream —
  * never from {@link UUID#randomUUID()} or other external entropy sources.
+ * <p>
+ * Time-ordered IDs ({@link #uuidV7()}, {@link #ulid()}, {@link #snowflake(SnowflakeLayout)}) read a virtual clock that starts at
+ * {@link JRandomly#getRunStartTime()} and advances by 0 or 1 ms per generated ID, so they
+ * sort like production keys while remaining reproducible. The clock lives on this module,
+ * which {@link JRandomly#id()} caches per instance.
  *
  * <h2>Usage</h2>
  * <pre>{@code
  * JRandomly r = JRandomly.randomly("MyTest");
  * UUID   orderId  = r.id().uuid();
+ * List<UUID> batch = r.id().uuids(1_000);
+ * UUID   eventId  = r.id().uuidV7();
+ * String ulid     = r.id().ulid();
+ * long   rowId    = r.id().snowflake(SnowflakeLayout.TWITTER);
  * long   itemId   = r.id().longId();
  * long   seqNr    = r.id().longIdBetween(1_000, 9_999);
+ * long   rowKey   = r.id().uniqueLongIds().next();
  * String ref      = r.id().prefixedId("ORD-", 12);
  * }</pre>
  */
 public final class IdRandomly {
 
+    private static final long UUID_VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long UUID_VERSION_4 = 0x0000000000004000L;
+    private static final long UUID_VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long UUID_VARIANT_2 = 0x8000000000000000L;
+    private static final long UUID_VERSION_7 = 0x0000000000007000L;
+
+    private static final long MAX_UNIX_MILLIS_48 = (1L << 48) - 1;
+    private static final int V7_COUNTER_MAX = 0xFFF;
+    /** Fresh counters start in the lower half, leaving headroom for same-millisecond increments. */
+    private static final int V7_COUNTER_SEED_BOUND = 0x800;
+    private static final long ULID_HIGH_MASK = 0xFFFFL;
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ULID_LENGTH = 26;
+    private static final long CLOCK_UNSET = Long.MIN_VALUE;
+
     private final JRandomly randomly;
+    private final long workerHash;
+
+    // Virtual clock shared by all time-ordered generators of this module
+    private long clockMillis = CLOCK_UNSET;
+
+    private long v7Millis = CLOCK_UNSET;
+    private int v7Counter;
+
+    private long ulidMillis = CLOCK_UNSET;
+    private long ulidHigh;
+    private long ulidLow;
+
+    private long snowflakeMillis = CLOCK_UNSET;
+    private long snowflakeSequence;
+
+    /**
+     * Algorithm used to turn RNG draws into UUIDs.
+     * <p>
+     * The algorithm determines which UUID sequence a given seed produces. Use
+     * {@link #HEX_0_1} to replay fixtures that were recorded with JRandomly 0.1.0.
+     */
+    public enum UuidAlgorithm {
+        /**
+         * Two 64-bit draws with version and variant bits masked in (default).
+         */
+        BITS,
+        /**
+         * 32 hex-digit draws formatted and parsed as in JRandomly 0.1.0.
+         */
+        HEX_0_1
+    }
 
     /**
      * Constructor.
@@ -31,6 +91,7 @@ public final class IdRandomly {
      */
     public IdRandomly(JRandomly randomly) {
         this.randomly = Objects.requireNonNull(randomly, "randomly must not be null");
+        this.workerHash = SeedDerivation.seedForSubstream(randomly.getInstanceSeed(), "id:snowflake-worker");
     }
 
     // ---- UUID ----
@@ -38,29 +99,280 @@ public final class IdRandomly {
     /**
      * Returns a deterministic Version-4 UUID built entirely from the RNG stream.
      * <p>
-     * The UUID has the correct variant (2) and version (4) bits set,
+     * The UUID is built from two 64-bit draws with the variant (2) and version (4) bits set,
      * so it is structurally valid — but reproducible given the same seed.
      *
      * @return UUID
      */
     public UUID uuid() {
-        // 32 hex chars = 128 random bits
-        String hex = randomly.text().hexString(32);
+        return uuid(UuidAlgorithm.BITS);
+    }
 
-        // Inject version 4: hex[12] = '4'
-        // Inject variant 2: hex[16] must be 8, 9, a, or b
-        char[] chars = hex.toCharArray();
-        chars[12] = '4';
-        chars[16] = variantChar(chars[16]);
+    /**
+     * Returns a deterministic Version-4 UUID using the given algorithm.
+     *
+     * @param algorithm generation algorithm; {@link UuidAlgorithm#HEX_0_1} reproduces 0.1.0 sequences
+     * @return UUID
+     */
+    public UUID uuid(UuidAlgorithm algorithm) {
+        Objects.requireNonNull(algorithm, "algorithm");
+        return switch (algorithm) {
+            case BITS -> new UUID(uuidMostSignificantBits(), uuidLeastSignificantBits());
+            case HEX_0_1 -> hexUuid();
+        };
+    }
 
-        // Format: 8-4-4-4-12
-        return UUID.fromString(
-                new String(chars, 0, 8) + "-"
-                        + new String(chars, 8, 4) + "-"
-                        + new String(chars, 12, 4) + "-"
-                        + new String(chars, 16, 4) + "-"
-                        + new String(chars, 20, 12)
-        );
+    /**
+     * Returns {@code count} deterministic Version-4 UUIDs.
+     *
+     * @param count number of UUIDs to generate
+     * @return unmodifiable list of UUIDs
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<UUID> uuids(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        UUID[] result = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new UUID(uuidMostSignificantBits(), uuidLeastSignificantBits());
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Fills the given arrays with the bits of deterministic Version-4 UUIDs, without creating
+     * {@link UUID} objects. Element {@code i} of both arrays forms one UUID, i.e. the same
+     * sequence as {@code msb.length} calls to {@link #uuid()}.
+     *
+     * @param msb destination for the most significant bits
+     * @param lsb destination for the least significant bits
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public void fillUuids(long[] msb, long[] lsb) {
+        Objects.requireNonNull(msb, "msb");
+        Objects.requireNonNull(lsb, "lsb");
+        if (msb.length != lsb.length) {
+            throw new IllegalArgumentException("msb and lsb must have the same length");
+        }
+        for (int i = 0; i < msb.length; i++) {
+            msb[i] = uuidMostSignificantBits();
+            lsb[i] = uuidLeastSignificantBits();
+        }
+    }
+
+    // ---- Time-ordered IDs ----
+
+    /**
+     * Returns a deterministic, time-ordered Version-7 UUID (RFC 9562).
+     * <p>
+     * The 48-bit timestamp comes from the module's virtual clock (anchored at
+     * {@code runStartTime}); the 12-bit {@code rand_a} field is a counter that is incremented
+     * within the same millisecond, so consecutive UUIDs of this module are strictly ascending.
+     *
+     * @return UUIDv7
+     * @throws IllegalStateException if the virtual clock is outside the 48-bit Unix-millis range
+     */
+    public UUID uuidV7() {
+        return new UUID(uuidV7MostSignificantBits(), uuidLeastSignificantBits());
+    }
+
+    /**
+     * Returns {@code count} consecutive, strictly ascending Version-7 UUIDs.
+     *
+     * @param count number of UUIDs to generate
+     * @return unmodifiable list of UUIDs
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<UUID> uuidsV7(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        UUID[] result = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = uuidV7();
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Fills the given arrays with the bits of consecutive Version-7 UUIDs, without creating
+     * {@link UUID} objects.
+     *
+     * @param msb destination for the most significant bits
+     * @param lsb destination for the least significant bits
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public void fillUuidsV7(long[] msb, long[] lsb) {
+        Objects.requireNonNull(msb, "msb");
+        Objects.requireNonNull(lsb, "lsb");
+        if (msb.length != lsb.length) {
+            throw new IllegalArgumentException("msb and lsb must have the same length");
+        }
+        for (int i = 0; i < msb.length; i++) {
+            msb[i] = uuidV7MostSignificantBits();
+            lsb[i] = uuidLeastSignificantBits();
+        }
+    }
+
+    /**
+     * Returns a deterministic, monotonic ULID (26 Crockford base32 characters).
+     * <p>
+     * The 48-bit timestamp comes from the module's virtual clock (anchored at
+     * {@code runStartTime}). Within the same millisecond the 80-bit random part is
+     * incremented by one, so consecutive ULIDs of this module sort strictly ascending.
+     *
+     * @return ULID string
+     * @throws IllegalStateException if the virtual clock is outside the 48-bit Unix-millis range
+     */
+    public String ulid() {
+        char[] chars = new char[ULID_LENGTH];
+        writeUlid(chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Returns {@code count} consecutive, strictly ascending ULIDs.
+     *
+     * @param count number of ULIDs to generate
+     * @return unmodifiable list of ULID strings
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<String> ulids(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be >= 0");
+        }
+        String[] result = new String[count];
+        char[] chars = new char[ULID_LENGTH];
+        for (int i = 0; i < count; i++) {
+            writeUlid(chars, 0);
+            result[i] = new String(chars);
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Writes the next ULID into {@code dst} starting at {@code offset}.
+     *
+     * @param dst    destination buffer (needs 26 free characters from {@code offset})
+     * @param offset start position in {@code dst}
+     * @return position after the last written character
+     */
+    public int writeUlid(char[] dst, int offset) {
+        Objects.checkFromIndexSize(offset, ULID_LENGTH, dst.length);
+        long millis = advanceClock();
+        if (millis == ulidMillis) {
+            if (++ulidLow == 0) {
+                ulidHigh = (ulidHigh + 1) & ULID_HIGH_MASK;
+                if (ulidHigh == 0) {
+                    // 80-bit overflow: move to the next millisecond with fresh randomness
+                    millis = ++clockMillis;
+                    ulidHigh = randomly.nextLong() & ULID_HIGH_MASK;
+                    ulidLow = randomly.nextLong();
+                }
+            }
+        } else {
+            ulidHigh = randomly.nextLong() & ULID_HIGH_MASK;
+            ulidLow = randomly.nextLong();
+        }
+        ulidMillis = checkUnixMillis48(millis);
+
+        int pos = offset;
+        for (int shift = 45; shift >= 0; shift -= 5) {
+            dst[pos++] = CROCKFORD_BASE32[(int) (millis >>> shift) & 31];
+        }
+        for (int shift = 75; shift >= 0; shift -= 5) {
+            long bits;
+            if (shift >= 64) {
+                bits = ulidHigh >>> (shift - 64);
+            } else if (shift > 59) {
+                bits = (ulidHigh << (64 - shift)) | (ulidLow >>> shift);
+            } else {
+                bits = ulidLow >>> shift;
+            }
+            dst[pos++] = CROCKFORD_BASE32[(int) bits & 31];
+        }
+        return pos;
+    }
+
+    // ---- Snowflake IDs ----
+
+    /**
+     * Returns a Snowflake-style 64-bit ID with this scope's default worker id.
+     * <p>
+     * The default worker id is a mix of the instance seed masked to the layout's worker bits,
+     * so it is reproducible from the seed alone. Distinct scopes share a worker id, and then
+     * produce the same IDs, with probability {@code 2^-workerBits} per pair: with the 10 worker
+     * bits of {@link SnowflakeLayout#TWITTER} about 2% for 5 scopes and 50% for 38. If
+     * generators must be provably disjoint, assign worker ids explicitly via
+     * {@link #snowflake(SnowflakeLayout, long)}.
+     *
+     * @param layout bit layout
+     * @return positive, ascending ID
+     * @throws IllegalStateException if the virtual clock is outside the layout's timestamp range
+     */
+    public long snowflake(SnowflakeLayout layout) {
+        Objects.requireNonNull(layout, "layout");
+        return snowflake(layout, defaultWorkerId(layout));
+    }
+
+    /**
+     * Returns a Snowflake-style 64-bit ID for an explicit worker id.
+     * <p>
+     * The timestamp comes from the module's virtual clock (anchored at {@code runStartTime});
+     * the sequence restarts at 0 for every new millisecond and moves the clock forward when it
+     * overflows. No locks or shared counters are involved: generators with different worker
+     * ids can never produce the same ID.
+     *
+     * @param layout   bit layout
+     * @param workerId worker id in the range [0, layout.maxWorkerId()]
+     * @return positive, ascending ID
+     * @throws IllegalArgumentException if the worker id does not fit into the layout
+     * @throws IllegalStateException    if the virtual clock is outside the layout's timestamp range
+     */
+    public long snowflake(SnowflakeLayout layout, long workerId) {
+        Objects.requireNonNull(layout, "layout");
+        if (workerId < 0 || workerId > layout.maxWorkerId()) {
+            throw new IllegalArgumentException("workerId must be in [0, " + layout.maxWorkerId() + "]");
+        }
+        long millis = advanceClock();
+        if (millis == snowflakeMillis) {
+            if (++snowflakeSequence > layout.maxSequence()) {
+                millis = ++clockMillis;
+                snowflakeSequence = 0;
+            }
+        } else {
+            snowflakeSequence = 0;
+        }
+        snowflakeMillis = millis;
+
+        long timestamp = millis - layout.epochMillis();
+        if (timestamp < 0 || timestamp > layout.maxTimestamp()) {
+            throw new IllegalStateException("Virtual clock " + millis + " is outside the layout's timestamp range");
+        }
+        return (timestamp << (layout.workerBits() + layout.sequenceBits()))
+                | (workerId << layout.sequenceBits())
+                | snowflakeSequence;
+    }
+
+    /**
+     * Fills {@code dst} with consecutive Snowflake IDs for this instance's worker id.
+     *
+     * @param layout bit layout
+     * @param dst    destination array
+     * @see #snowflake(SnowflakeLayout)
+     */
+    public void fillSnowflakes(SnowflakeLayout layout, long[] dst) {
+        Objects.requireNonNull(layout, "layout");
+        Objects.requireNonNull(dst, "dst");
+        long workerId = defaultWorkerId(layout);
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = snowflake(layout, workerId);
+        }
+    }
+
+    private long defaultWorkerId(SnowflakeLayout layout) {
+        return workerHash & layout.maxWorkerId();
     }
 
     // ---- Long IDs ----
@@ -91,6 +403,58 @@ public final class IdRandomly {
         return randomly.longBetween(min, max);
     }
 
+    /**
+     * Returns a generator for unique, random-looking IDs in the range [1, Long.MAX_VALUE].
+     * <p>
+     * Unlike {@link #longId()}, which can collide by the birthday bound, the generator
+     * emits a permutation of a counter and therefore never repeats an ID.
+     *
+     * @return unique ID generator
+     */
+    public UniqueLongIds uniqueLongIds() {
+        return uniqueLongIdsBetween(1, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns a generator for unique, random-looking IDs in the range [min, max] (both inclusive).
+     * The permutation key is drawn from this instance, so the ID sequence is reproducible.
+     *
+     * @param min minimum value (inclusive)
+     * @param max maximum value (inclusive)
+     * @return unique ID generator
+     * @throws IllegalArgumentException if {@code min < 1} or {@code min > max}
+     */
+    public UniqueLongIds uniqueLongIdsBetween(long min, long max) {
+        if (min < 1) {
+            throw new IllegalArgumentException("min must be >= 1 (IDs should be positive)");
+        }
+        if (min > max) {
+            throw new IllegalArgumentException("min must be <= max");
+        }
+        return new UniqueLongIds(min, max, randomly.nextLong());
+    }
+
+    /**
+     * Returns ascending IDs starting at {@code firstId}, striped over {@code partitions}
+     * partitions in blocks of {@code blockSize} consecutive IDs.
+     * <p>
+     * Intended for multi-threaded fixtures: each worker owns one partition and issues IDs
+     * without a shared atomic, while the mapping from (partition, ordinal) to ID stays
+     * reproducible under any thread interleaving.
+     *
+     * @param firstId    smallest ID of the space (must be &gt;= 1)
+     * @param partitions number of partitions (e.g. worker threads)
+     * @param blockSize  number of consecutive IDs per block; 1 interleaves the partitions
+     * @return striped ID space
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public StripedIds stripedIds(long firstId, int partitions, int blockSize) {
+        if (firstId < 1) {
+            throw new IllegalArgumentException("firstId must be >= 1 (IDs should be positive)");
+        }
+        return new StripedIds(firstId, partitions, blockSize);
+    }
+
     // ---- Int IDs ----
 
     /**
@@ -135,6 +499,69 @@ public final class IdRandomly {
 
     // ---- Internal helpers ----
 
+    private long uuidMostSignificantBits() {
+        return (randomly.nextLong() & UUID_VERSION_MASK) | UUID_VERSION_4;
+    }
+
+    private long uuidLeastSignificantBits() {
+        return (randomly.nextLong() & UUID_VARIANT_MASK) | UUID_VARIANT_2;
+    }
+
+    private long uuidV7MostSignificantBits() {
+        long millis = advanceClock();
+        if (millis == v7Millis) {
+            if (++v7Counter > V7_COUNTER_MAX) {
+                // Counter exhausted within this millisecond: move the clock forward
+                millis = ++clockMillis;
+                v7Counter = randomly.index(V7_COUNTER_SEED_BOUND);
+            }
+        } else {
+            v7Counter = randomly.index(V7_COUNTER_SEED_BOUND);
+        }
+        v7Millis = checkUnixMillis48(millis);
+        return (millis << 16) | UUID_VERSION_7 | v7Counter;
+    }
+
+    /**
+     * Advances the virtual clock by 0 or 1 ms and returns it. The first call anchors the
+     * clock at {@code runStartTime} without consuming a draw.
+     */
+    private long advanceClock() {
+        if (clockMillis == CLOCK_UNSET) {
+            clockMillis = randomly.getRunStartTime().toEpochMilli();
+        } else {
+            clockMillis += randomly.index(2);
+        }
+        return clockMillis;
+    }
+
+    private static long checkUnixMillis48(long millis) {
+        if (millis < 0 || millis > MAX_UNIX_MILLIS_48) {
+            throw new IllegalStateException("Virtual clock out of 48-bit Unix-millis range: " + millis);
+        }
+        return millis;
+    }
+
+    private UUID hexUuid() {
+        // 32 hex chars = 128 random bits
+        String hex = randomly.text().hexString(32);
+
+        // Inject version 4: hex[12] = '4'
+        // Inject variant 2: hex[16] must be 8, 9, a, or b
+        char[] chars = hex.toCharArray();
+        chars[12] = '4';
+        chars[16] = variantChar(chars[16]);
+
+        // Format: 8-4-4-4-12
+        return UUID.fromString(
+                new String(chars, 0, 8) + "-"
+                        + new String(chars, 8, 4) + "-"
+                        + new String(chars, 12, 4) + "-"
+                        + new String(chars, 16, 4) + "-"
+                        + new String(chars, 20, 12)
+        );
+    }
+
     /**
      * Maps a hex char to the variant-2 range (8, 9, a, b) for UUID compliance.
      */
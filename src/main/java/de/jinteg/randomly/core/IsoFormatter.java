@@ -0,0 +1,483 @@
+package de.jinteg.randomly.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.util.Objects;
+
+/**
+ * Allocation-free ISO-8601 formatting from epoch values.
+ * <p>
+ * Output is identical to the corresponding {@link DateTimeFormatter} constant:
+ * {@code ISO_LOCAL_DATE}, {@code ISO_LOCAL_TIME}, {@code ISO_LOCAL_DATE_TIME},
+ * {@code ISO_OFFSET_DATE_TIME} and {@code ISO_INSTANT}. Years 0..9999 are written with
+ * fixed-width digit tables; other years fall back to {@link DateTimeFormatter}.
+ * <p>
+ * The {@code write*} methods return the index after the last written character; the
+ * destination needs room for up to {@link #MAX_LENGTH} characters.
+ */
+public final class IsoFormatter {
+
+    /**
+     * Maximum number of characters written by any method of this class.
+     */
+    public static final int MAX_LENGTH = 48;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private static final char[] TENS = new char[100];
+    private static final char[] ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            TENS[i] = (char) ('0' + i / 10);
+            ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    private IsoFormatter() {
+    }
+
+    // --- char[] ---
+
+    /**
+     * Writes an {@code ISO_LOCAL_DATE} value, e.g. {@code 2026-06-15}.
+     *
+     * @param epochDay epoch day
+     * @param dst      destination
+     * @param off      start index in {@code dst}
+     * @return index after the last written character
+     */
+    public static int writeLocalDate(long epochDay, char[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        ChronoField.EPOCH_DAY.checkValidValue(epochDay);
+        int end = date(epochDay, dst, off);
+        return end >= 0 ? end : copy(DateTimeFormatter.ISO_LOCAL_DATE.format(LocalDate.ofEpochDay(epochDay)), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_LOCAL_TIME} value, e.g. {@code 10:30:05} or {@code 10:30:05.25}.
+     *
+     * @param nanoOfDay nano of day
+     * @param dst       destination
+     * @param off       start index in {@code dst}
+     * @return index after the last written character
+     */
+    public static int writeLocalTime(long nanoOfDay, char[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        ChronoField.NANO_OF_DAY.checkValidValue(nanoOfDay);
+        return time(nanoOfDay, false, dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_LOCAL_DATE_TIME} value, e.g. {@code 2026-06-15T10:30:05}.
+     *
+     * @param localEpochSecond local date-time as seconds since {@code 1970-01-01T00:00} (no offset applied)
+     * @param nano             nano of second
+     * @param dst              destination
+     * @param off              start index in {@code dst}
+     * @return index after the last written character
+     */
+    public static int writeLocalDateTime(long localEpochSecond, int nano, char[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        ChronoField.NANO_OF_SECOND.checkValidValue(nano);
+        int end = dateTime(localEpochSecond, nano, false, dst, off);
+        if (end >= 0) return end;
+        LocalDateTime value = LocalDateTime.ofEpochSecond(localEpochSecond, nano, ZoneOffset.UTC);
+        return copy(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_OFFSET_DATE_TIME} value, e.g. {@code 2026-06-15T12:30:05+02:00}.
+     *
+     * @param epochSecond   instant as Unix seconds
+     * @param nano          nano of second
+     * @param offsetSeconds zone offset in seconds
+     * @param dst           destination
+     * @param off           start index in {@code dst}
+     * @return index after the last written character
+     */
+    public static int writeOffsetDateTime(long epochSecond, int nano, int offsetSeconds, char[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        ChronoField.NANO_OF_SECOND.checkValidValue(nano);
+        if (Math.abs(offsetSeconds) > MAX_OFFSET_SECONDS) {
+            throw new IllegalArgumentException("offsetSeconds must be within +/-18 hours");
+        }
+        long local = epochSecond + offsetSeconds;
+        int end = dateTime(local, nano, false, dst, off);
+        if (end >= 0) return offsetId(offsetSeconds, dst, end);
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSeconds);
+        LocalDateTime value = LocalDateTime.ofEpochSecond(epochSecond, nano, offset);
+        return copy(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value.atOffset(offset)), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_INSTANT} value, e.g. {@code 2026-06-15T10:30:05.123Z}.
+     *
+     * @param epochSecond instant as Unix seconds
+     * @param nano        nano of second
+     * @param dst         destination
+     * @param off         start index in {@code dst}
+     * @return index after the last written character
+     */
+    public static int writeInstant(long epochSecond, int nano, char[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        ChronoField.NANO_OF_SECOND.checkValidValue(nano);
+        int end = dateTime(epochSecond, nano, true, dst, off);
+        if (end < 0) return copy(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(epochSecond, nano)), dst, off);
+        dst[end] = 'Z';
+        return end + 1;
+    }
+
+    // --- byte[] (US-ASCII / UTF-8) ---
+
+    /**
+     * Writes an {@code ISO_LOCAL_DATE} value as ASCII bytes.
+     *
+     * @param epochDay epoch day
+     * @param dst      destination
+     * @param off      start index in {@code dst}
+     * @return index after the last written byte
+     * @see #writeLocalDate(long, char[], int)
+     */
+    public static int writeLocalDate(long epochDay, byte[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        char[] scratch = SCRATCH.get();
+        return toBytes(scratch, writeLocalDate(epochDay, scratch, 0), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_LOCAL_TIME} value as ASCII bytes.
+     *
+     * @param nanoOfDay nano of day
+     * @param dst       destination
+     * @param off       start index in {@code dst}
+     * @return index after the last written byte
+     * @see #writeLocalTime(long, char[], int)
+     */
+    public static int writeLocalTime(long nanoOfDay, byte[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        char[] scratch = SCRATCH.get();
+        return toBytes(scratch, writeLocalTime(nanoOfDay, scratch, 0), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_LOCAL_DATE_TIME} value as ASCII bytes.
+     *
+     * @param localEpochSecond local date-time as seconds since {@code 1970-01-01T00:00}
+     * @param nano             nano of second
+     * @param dst              destination
+     * @param off              start index in {@code dst}
+     * @return index after the last written byte
+     * @see #writeLocalDateTime(long, int, char[], int)
+     */
+    public static int writeLocalDateTime(long localEpochSecond, int nano, byte[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        char[] scratch = SCRATCH.get();
+        return toBytes(scratch, writeLocalDateTime(localEpochSecond, nano, scratch, 0), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_OFFSET_DATE_TIME} value as ASCII bytes.
+     *
+     * @param epochSecond   instant as Unix seconds
+     * @param nano          nano of second
+     * @param offsetSeconds zone offset in seconds
+     * @param dst           destination
+     * @param off           start index in {@code dst}
+     * @return index after the last written byte
+     * @see #writeOffsetDateTime(long, int, int, char[], int)
+     */
+    public static int writeOffsetDateTime(long epochSecond, int nano, int offsetSeconds, byte[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        char[] scratch = SCRATCH.get();
+        return toBytes(scratch, writeOffsetDateTime(epochSecond, nano, offsetSeconds, scratch, 0), dst, off);
+    }
+
+    /**
+     * Writes an {@code ISO_INSTANT} value as ASCII bytes.
+     *
+     * @param epochSecond instant as Unix seconds
+     * @param nano        nano of second
+     * @param dst         destination
+     * @param off         start index in {@code dst}
+     * @return index after the last written byte
+     * @see #writeInstant(long, int, char[], int)
+     */
+    public static int writeInstant(long epochSecond, int nano, byte[] dst, int off) {
+        Objects.requireNonNull(dst, "dst");
+        char[] scratch = SCRATCH.get();
+        return toBytes(scratch, writeInstant(epochSecond, nano, scratch, 0), dst, off);
+    }
+
+    // --- Appendable ---
+
+    /**
+     * Appends an {@code ISO_LOCAL_DATE} value.
+     *
+     * @param out      target
+     * @param epochDay epoch day
+     * @throws UncheckedIOException if appending fails
+     */
+    public static void appendLocalDate(Appendable out, long epochDay) {
+        Objects.requireNonNull(out, "out");
+        char[] scratch = SCRATCH.get();
+        append(out, scratch, writeLocalDate(epochDay, scratch, 0));
+    }
+
+    /**
+     * Appends an {@code ISO_LOCAL_TIME} value.
+     *
+     * @param out       target
+     * @param nanoOfDay nano of day
+     * @throws UncheckedIOException if appending fails
+     */
+    public static void appendLocalTime(Appendable out, long nanoOfDay) {
+        Objects.requireNonNull(out, "out");
+        char[] scratch = SCRATCH.get();
+        append(out, scratch, writeLocalTime(nanoOfDay, scratch, 0));
+    }
+
+    /**
+     * Appends an {@code ISO_LOCAL_DATE_TIME} value.
+     *
+     * @param out              target
+     * @param localEpochSecond local date-time as seconds since {@code 1970-01-01T00:00}
+     * @param nano             nano of second
+     * @throws UncheckedIOException if appending fails
+     */
+    public static void appendLocalDateTime(Appendable out, long localEpochSecond, int nano) {
+        Objects.requireNonNull(out, "out");
+        char[] scratch = SCRATCH.get();
+        append(out, scratch, writeLocalDateTime(localEpochSecond, nano, scratch, 0));
+    }
+
+    /**
+     * Appends an {@code ISO_OFFSET_DATE_TIME} value.
+     *
+     * @param out           target
+     * @param epochSecond   instant as Unix seconds
+     * @param nano          nano of second
+     * @param offsetSeconds zone offset in seconds
+     * @throws UncheckedIOException if appending fails
+     */
+    public static void appendOffsetDateTime(Appendable out, long epochSecond, int nano, int offsetSeconds) {
+        Objects.requireNonNull(out, "out");
+        char[] scratch = SCRATCH.get();
+        append(out, scratch, writeOffsetDateTime(epochSecond, nano, offsetSeconds, scratch, 0));
+    }
+
+    /**
+     * Appends an {@code ISO_INSTANT} value.
+     *
+     * @param out         target
+     * @param epochSecond instant as Unix seconds
+     * @param nano        nano of second
+     * @throws UncheckedIOException if appending fails
+     */
+    public static void appendInstant(Appendable out, long epochSecond, int nano) {
+        Objects.requireNonNull(out, "out");
+        char[] scratch = SCRATCH.get();
+        append(out, scratch, writeInstant(epochSecond, nano, scratch, 0));
+    }
+
+    // --- String ---
+
+    /**
+     * Formats an {@code ISO_LOCAL_DATE} value.
+     *
+     * @param epochDay epoch day
+     * @return formatted date
+     */
+    public static String formatLocalDate(long epochDay) {
+        char[] scratch = SCRATCH.get();
+        return new String(scratch, 0, writeLocalDate(epochDay, scratch, 0));
+    }
+
+    /**
+     * Formats an {@code ISO_LOCAL_TIME} value.
+     *
+     * @param nanoOfDay nano of day
+     * @return formatted time
+     */
+    public static String formatLocalTime(long nanoOfDay) {
+        char[] scratch = SCRATCH.get();
+        return new String(scratch, 0, writeLocalTime(nanoOfDay, scratch, 0));
+    }
+
+    /**
+     * Formats an {@code ISO_LOCAL_DATE_TIME} value.
+     *
+     * @param localEpochSecond local date-time as seconds since {@code 1970-01-01T00:00}
+     * @param nano             nano of second
+     * @return formatted date-time
+     */
+    public static String formatLocalDateTime(long localEpochSecond, int nano) {
+        char[] scratch = SCRATCH.get();
+        return new String(scratch, 0, writeLocalDateTime(localEpochSecond, nano, scratch, 0));
+    }
+
+    /**
+     * Formats an {@code ISO_OFFSET_DATE_TIME} value.
+     *
+     * @param epochSecond   instant as Unix seconds
+     * @param nano          nano of second
+     * @param offsetSeconds zone offset in seconds
+     * @return formatted date-time with offset
+     */
+    public static String formatOffsetDateTime(long epochSecond, int nano, int offsetSeconds) {
+        char[] scratch = SCRATCH.get();
+        return new String(scratch, 0, writeOffsetDateTime(epochSecond, nano, offsetSeconds, scratch, 0));
+    }
+
+    /**
+     * Formats an {@code ISO_INSTANT} value.
+     *
+     * @param epochSecond instant as Unix seconds
+     * @param nano        nano of second
+     * @return formatted instant
+     */
+    public static String formatInstant(long epochSecond, int nano) {
+        char[] scratch = SCRATCH.get();
+        return new String(scratch, 0, writeInstant(epochSecond, nano, scratch, 0));
+    }
+
+    // --- Helpers ---
+
+    /**
+     * Writes {@code yyyy-MM-dd}; returns -1 if the year is outside 0..9999.
+     */
+    private static int date(long epochDay, char[] dst, int off) {
+        // Civil-from-days on a March-based year, as in LocalDate.ofEpochDay.
+        long z = epochDay + 719_468L;
+        long era = Math.floorDiv(z, 146_097L);
+        long doe = z - era * 146_097L;
+        long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        int mp = (int) ((5 * doy + 2) / 153);
+        int day = (int) (doy - (153L * mp + 2) / 5 + 1);
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) return -1;
+
+        int y = (int) year;
+        put2(dst, off, y / 100);
+        put2(dst, off + 2, y % 100);
+        dst[off + 4] = '-';
+        put2(dst, off + 5, month);
+        dst[off + 7] = '-';
+        put2(dst, off + 8, day);
+        return off + 10;
+    }
+
+    /**
+     * Writes {@code HH:mm:ss[.fraction]}; instant style prints the fraction in groups of three digits.
+     */
+    private static int time(long nanoOfDay, boolean instantStyle, char[] dst, int off) {
+        int hour = (int) (nanoOfDay / NANOS_PER_HOUR);
+        int minute = (int) (nanoOfDay / NANOS_PER_MINUTE % 60);
+        int second = (int) (nanoOfDay / NANOS_PER_SECOND % 60);
+        int nano = (int) (nanoOfDay % NANOS_PER_SECOND);
+
+        put2(dst, off, hour);
+        dst[off + 2] = ':';
+        put2(dst, off + 3, minute);
+        dst[off + 5] = ':';
+        put2(dst, off + 6, second);
+        off += 8;
+        if (nano == 0) return off;
+
+        dst[off] = '.';
+        put3(dst, off + 1, nano / 1_000_000);
+        put3(dst, off + 4, nano / 1_000 % 1_000);
+        put3(dst, off + 7, nano % 1_000);
+        int end = off + 10;
+        if (instantStyle) {
+            while (dst[end - 1] == '0' && dst[end - 2] == '0' && dst[end - 3] == '0') {
+                end -= 3;
+            }
+        } else {
+            while (dst[end - 1] == '0') {
+                end--;
+            }
+        }
+        return end;
+    }
+
+    private static int dateTime(long localEpochSecond, int nano, boolean instantStyle, char[] dst, int off) {
+        long epochDay = Math.floorDiv(localEpochSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(localEpochSecond, SECONDS_PER_DAY);
+        if (epochDay < ChronoField.EPOCH_DAY.range().getMinimum()
+                || epochDay > ChronoField.EPOCH_DAY.range().getMaximum()) {
+            return -1;
+        }
+        int end = date(epochDay, dst, off);
+        if (end < 0) return -1;
+        dst[end] = 'T';
+        return time(secondOfDay * NANOS_PER_SECOND + nano, instantStyle, dst, end + 1);
+    }
+
+    private static int offsetId(int offsetSeconds, char[] dst, int off) {
+        if (offsetSeconds == 0) {
+            dst[off] = 'Z';
+            return off + 1;
+        }
+        int abs = Math.abs(offsetSeconds);
+        dst[off] = offsetSeconds < 0 ? '-' : '+';
+        put2(dst, off + 1, abs / 3600);
+        dst[off + 3] = ':';
+        put2(dst, off + 4, abs / 60 % 60);
+        int seconds = abs % 60;
+        if (seconds == 0) return off + 6;
+        dst[off + 6] = ':';
+        put2(dst, off + 7, seconds);
+        return off + 9;
+    }
+
+    private static void put2(char[] dst, int off, int value) {
+        dst[off] = TENS[value];
+        dst[off + 1] = ONES[value];
+    }
+
+    private static void put3(char[] dst, int off, int value) {
+        dst[off] = (char) ('0' + value / 100);
+        put2(dst, off + 1, value % 100);
+    }
+
+    private static int copy(String value, char[] dst, int off) {
+        value.getChars(0, value.length(), dst, off);
+        return off + value.length();
+    }
+
+    private static int toBytes(char[] src, int length, byte[] dst, int off) {
+        for (int i = 0; i < length; i++) {
+            dst[off + i] = (byte) src[i];
+        }
+        return off + length;
+    }
+
+    private static void append(Appendable out, char[] src, int length) {
+        try {
+            if (out instanceof StringBuilder sb) {
+                sb.append(src, 0, length);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    out.append(src[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
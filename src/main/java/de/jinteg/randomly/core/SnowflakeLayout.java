@@ -0,0 +1,81 @@
+package de.jinteg.randomly.core;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Bit layout of a Snowflake-style 64-bit ID: {@code timestamp | worker | sequence}.
+ * <p>
+ * The sign bit is never used, so IDs are positive and sort by timestamp first.
+ *
+ * @param epochMillis   custom epoch in Unix milliseconds; timestamps are stored relative to it
+ * @param timestampBits number of bits for the millisecond timestamp (1..63)
+ * @param workerBits    number of bits for the worker/shard id (0..62)
+ * @param sequenceBits  number of bits for the per-millisecond sequence (0..62)
+ */
+public record SnowflakeLayout(long epochMillis, int timestampBits, int workerBits, int sequenceBits) {
+
+    /**
+     * The classic Twitter layout: 41 timestamp bits, 10 worker bits, 12 sequence bits,
+     * epoch {@code 2010-11-04T01:42:54.657Z}.
+     */
+    public static final SnowflakeLayout TWITTER = new SnowflakeLayout(1288834974657L, 41, 10, 12);
+
+    /**
+     * Validates the layout.
+     *
+     * @throws IllegalArgumentException if a field width is out of range or the total exceeds 63 bits
+     */
+    public SnowflakeLayout {
+        if (timestampBits < 1) {
+            throw new IllegalArgumentException("timestampBits must be >= 1");
+        }
+        if (workerBits < 0 || sequenceBits < 0) {
+            throw new IllegalArgumentException("workerBits and sequenceBits must be >= 0");
+        }
+        if (timestampBits + workerBits + sequenceBits > 63) {
+            throw new IllegalArgumentException("timestampBits + workerBits + sequenceBits must be <= 63");
+        }
+    }
+
+    /**
+     * Creates a layout with the given epoch.
+     *
+     * @param epoch         custom epoch
+     * @param timestampBits number of timestamp bits
+     * @param workerBits    number of worker bits
+     * @param sequenceBits  number of sequence bits
+     * @return layout
+     */
+    public static SnowflakeLayout of(Instant epoch, int timestampBits, int workerBits, int sequenceBits) {
+        Objects.requireNonNull(epoch, "epoch");
+        return new SnowflakeLayout(epoch.toEpochMilli(), timestampBits, workerBits, sequenceBits);
+    }
+
+    /**
+     * Returns the largest worker id that fits into the layout.
+     *
+     * @return maximum worker id
+     */
+    public long maxWorkerId() {
+        return (1L << workerBits) - 1;
+    }
+
+    /**
+     * Returns the largest sequence value per millisecond.
+     *
+     * @return maximum sequence
+     */
+    public long maxSequence() {
+        return (1L << sequenceBits) - 1;
+    }
+
+    /**
+     * Returns the largest timestamp (milliseconds since {@link #epochMillis()}) that fits.
+     *
+     * @return maximum relative timestamp
+     */
+    public long maxTimestamp() {
+        return (1L << timestampBits) - 1;
+    }
+}
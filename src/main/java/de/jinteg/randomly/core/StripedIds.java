@@ -0,0 +1,158 @@
+package de.jinteg.randomly.core;
+
+/**
+ * Ascending numeric IDs striped over a fixed number of partitions.
+ * <p>
+ * The ID space starting at {@code firstId} is cut into blocks of {@code blockSize} consecutive
+ * IDs, which are dealt to the partitions round-robin: partition {@code p} owns blocks
+ * {@code p, p + partitions, p + 2 * partitions, ...}. With a block size of 1 this is plain
+ * interleaving. Every partition keeps its own plain counter, so threads that each own a
+ * partition issue IDs without a shared atomic, and the n-th ID of a partition is always the same
+ * value regardless of thread scheduling.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * StripedIds orderNumbers = r.id().stripedIds(100_000, 8, 1_000);
+ * // worker thread k:
+ * StripedIds.Partition mine = orderNumbers.partition(k);
+ * long orderNo = mine.next();
+ * }</pre>
+ */
+public final class StripedIds {
+
+    private final long firstId;
+    private final int blockSize;
+    private final Partition[] partitions;
+
+    StripedIds(long firstId, int partitions, int blockSize) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be >= 1");
+        }
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be >= 1");
+        }
+        this.firstId = firstId;
+        this.blockSize = blockSize;
+        this.partitions = new Partition[partitions];
+        for (int p = 0; p < partitions; p++) {
+            this.partitions[p] = new Partition(p);
+        }
+    }
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return partition count
+     */
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Returns the number of consecutive IDs per block.
+     *
+     * @return block size
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the partition with the given index. The same instance is returned on every call.
+     * A partition must only be used by one thread at a time.
+     *
+     * @param partition partition index in the range [0, partitionCount())
+     * @return partition
+     */
+    public Partition partition(int partition) {
+        if (partition < 0 || partition >= partitions.length) {
+            throw new IllegalArgumentException("partition must be in [0, " + partitions.length + ")");
+        }
+        return partitions[partition];
+    }
+
+    /**
+     * Returns the ID that partition {@code partition} issues as its {@code ordinal}-th ID
+     * (0-based), without changing any state.
+     *
+     * @param partition partition index in the range [0, partitionCount())
+     * @param ordinal   0-based position within the partition
+     * @return ID
+     * @throws ArithmeticException if the ID does not fit into a long
+     */
+    public long idAt(int partition, long ordinal) {
+        if (partition < 0 || partition >= partitions.length) {
+            throw new IllegalArgumentException("partition must be in [0, " + partitions.length + ")");
+        }
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("ordinal must be >= 0");
+        }
+        long round = ordinal / blockSize;
+        long withinBlock = ordinal % blockSize;
+        long block = Math.addExact(Math.multiplyExact(round, (long) partitions.length), partition);
+        return Math.addExact(firstId, Math.addExact(Math.multiplyExact(block, blockSize), withinBlock));
+    }
+
+    // Partitions are allocated back to back and each is written by its own thread on every
+    // next(). The counters are fenced by 128 bytes of padding on both sides (superclass fields
+    // are laid out first), so neighbouring partitions never share a cache line or an adjacent
+    // prefetched line.
+
+    abstract static class LeftPadding {
+        long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p10, p11, p12, p13, p14, p15;
+    }
+
+    abstract static class Counters extends LeftPadding {
+        long ordinal;
+        long blockEnd;
+        long nextId;
+    }
+
+    abstract static class RightPadding extends Counters {
+        long q00, q01, q02, q03, q04, q05, q06, q07, q08, q09, q10, q11, q12, q13, q14, q15;
+    }
+
+    /**
+     * A single partition of a {@link StripedIds} space. Not thread-safe by design.
+     */
+    public final class Partition extends RightPadding {
+        private final int index;
+
+        private Partition(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Returns the partition index.
+         *
+         * @return index in the range [0, partitionCount())
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns the number of IDs issued by this partition so far.
+         *
+         * @return issued IDs
+         */
+        public long issued() {
+            return ordinal;
+        }
+
+        /**
+         * Returns the next ID of this partition. IDs are strictly ascending within a partition.
+         *
+         * @return next ID
+         * @throws ArithmeticException if the ID does not fit into a long
+         */
+        public long next() {
+            if (nextId == blockEnd) {
+                nextId = idAt(index, ordinal);
+                blockEnd = nextId + (blockSize - ordinal % blockSize);
+            }
+            ordinal++;
+            return nextId++;
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package de.jinteg.randomly.core;
 
 import de.jinteg.randomly.JRandomly;
-import de.jinteg.randomly.internal.catalog.NumberedPropertiesCatalog;
-
+import de.jinteg.randomly.internal.catalog.CatalogHandle;
+import de.jinteg.randomly.internal.catalog.LocalizedCatalog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -23,6 +30,15 @@ public final class TextRandomly {
     private static final String ALPHA = ALPHA_UPPER + ALPHA_LOWER;
     private static final String ALPHA_NUMERIC = NUMERIC + ALPHA;
 
+    private static final LocalizedCatalog UDHR = LocalizedCatalog.of("de/jinteg/randomly/catalog/text/udhr");
+    private static final LocalizedCatalog NOUNS = LocalizedCatalog.of("de/jinteg/randomly/catalog/text/nouns/nouns");
+    private static final LocalizedCatalog VERBS = LocalizedCatalog.of("de/jinteg/randomly/catalog/text/verbs/verbs");
+    private static final LocalizedCatalog ADJECTIVES = LocalizedCatalog.of("de/jinteg/randomly/catalog/text/adjectives/adjectives");
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final String SENTENCE_SEPARATOR = " ";
+    private static final String PARAGRAPH_SEPARATOR = "\n\n";
+
     private final JRandomly randomly;
 
     /**
@@ -219,9 +235,7 @@ public final class TextRandomly {
      * @return random sentence
      */
     public String sentence(Locale locale) {
-        Objects.requireNonNull(locale, "locale");
-        List<String> sentences = loadUdhrSentences(locale);
-        return randomly.elementOf(sentences);
+        return pick(UDHR, locale);
     }
 
     /**
@@ -241,7 +255,7 @@ public final class TextRandomly {
      */
     public String paragraph(Locale locale) {
         Objects.requireNonNull(locale, "locale");
-        List<String> sentences = loadUdhrSentences(locale);
+        List<String> sentences = UDHR.handle(locale).entries();
         int count = Math.min(6, sentences.size());
         int[] indices = randomly.uniqueIndices(count, sentences.size());
         List<String> uniqueSentences = Arrays.stream(indices)
@@ -255,9 +269,223 @@ public final class TextRandomly {
         return sb.toString();
     }
 
-    private List<String> loadUdhrSentences(Locale locale) {
-        return NumberedPropertiesCatalog.loadList(
-                "de/jinteg/randomly/catalog/text/udhr", locale);
+    // -- Streaming --
+
+    /**
+     * Writes UDHR paragraphs to the given writer until exactly {@code targetBytes} UTF-8 bytes
+     * have been produced, using the instance locale.
+     *
+     * @param targetBytes exact number of UTF-8 encoded bytes to produce
+     * @param out         writer to write to (not flushed or closed)
+     * @see #stream(long, Writer, Locale)
+     */
+    public void stream(long targetBytes, Writer out) {
+        stream(targetBytes, out, randomly.getLocale());
+    }
+
+    /**
+     * Writes UDHR paragraphs to the given writer until exactly {@code targetBytes} UTF-8 bytes
+     * have been produced.
+     * <p>
+     * Paragraphs consist of 3 to 6 random sentences separated by a space; paragraphs are separated
+     * by an empty line. Text is written through a fixed-size buffer, so memory use does not depend
+     * on {@code targetBytes}. If the last sentence does not fit, it is cut at a character boundary
+     * and padded with spaces to hit the byte target exactly.
+     *
+     * @param targetBytes exact number of UTF-8 encoded bytes to produce
+     * @param out         writer to write to (not flushed or closed)
+     * @param locale      locale to use for catalog selection
+     * @throws UncheckedIOException if the writer fails
+     */
+    public void stream(long targetBytes, Writer out, Locale locale) {
+        Objects.requireNonNull(out, "out");
+        writePayload(targetBytes, locale, new WriterSink(out));
+    }
+
+    /**
+     * Writes UDHR paragraphs to the given channel until exactly {@code targetBytes} UTF-8 bytes
+     * have been produced, using the instance locale.
+     *
+     * @param targetBytes exact number of UTF-8 encoded bytes to produce
+     * @param out         channel to write to (not closed)
+     * @see #stream(long, Writer, Locale)
+     */
+    public void stream(long targetBytes, WritableByteChannel out) {
+        stream(targetBytes, out, randomly.getLocale());
+    }
+
+    /**
+     * Writes UDHR paragraphs to the given channel until exactly {@code targetBytes} UTF-8 bytes
+     * have been produced. Sentences are encoded once per call and copied into a reusable buffer.
+     *
+     * @param targetBytes exact number of UTF-8 encoded bytes to produce
+     * @param out         channel to write to (not closed)
+     * @param locale      locale to use for catalog selection
+     * @throws UncheckedIOException if the channel fails
+     * @see #stream(long, Writer, Locale)
+     */
+    public void stream(long targetBytes, WritableByteChannel out, Locale locale) {
+        Objects.requireNonNull(out, "out");
+        writePayload(targetBytes, locale, new ChannelSink(out));
+    }
+
+    private void writePayload(long targetBytes, Locale locale, PayloadSink sink) {
+        Objects.requireNonNull(locale, "locale");
+        if (targetBytes < 0) {
+            throw new IllegalArgumentException("targetBytes must be >= 0");
+        }
+        CatalogHandle sentences = UDHR.handle(locale);
+        byte[] sentenceSeparator = SENTENCE_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+        byte[] paragraphSeparator = PARAGRAPH_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+
+        try {
+            long remaining = targetBytes;
+            int sentencesLeft = randomly.intBetween(3, 6);
+            boolean separatorDue = false;
+            while (remaining > 0) {
+                String text;
+                byte[] utf8;
+                if (separatorDue) {
+                    if (sentencesLeft == 0) {
+                        text = PARAGRAPH_SEPARATOR;
+                        utf8 = paragraphSeparator;
+                        sentencesLeft = randomly.intBetween(3, 6);
+                    } else {
+                        text = SENTENCE_SEPARATOR;
+                        utf8 = sentenceSeparator;
+                    }
+                    separatorDue = false;
+                } else {
+                    int idx = randomly.index(sentences.size());
+                    text = sentences.get(idx);
+                    utf8 = sentences.utf8(idx);
+                    sentencesLeft--;
+                    separatorDue = true;
+                }
+
+                if (utf8.length <= remaining) {
+                    sink.put(text, utf8);
+                    remaining -= utf8.length;
+                } else {
+                    int fit = utf8PrefixLength(utf8, (int) remaining);
+                    sink.putPrefix(text, utf8, fit);
+                    for (long pad = remaining - fit; pad > 0; pad--) {
+                        sink.put(SENTENCE_SEPARATOR, sentenceSeparator);
+                    }
+                    remaining = 0;
+                }
+            }
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to stream text payload", e);
+        }
+    }
+
+    /**
+     * Returns the longest prefix of {@code utf8} not exceeding {@code maxBytes}
+     * that does not split a multibyte character.
+     */
+    private static int utf8PrefixLength(byte[] utf8, int maxBytes) {
+        int end = maxBytes;
+        while (end > 0 && end < utf8.length && (utf8[end] & 0xC0) == 0x80) {
+            end--;
+        }
+        return end;
+    }
+
+    private interface PayloadSink {
+        void put(String text, byte[] utf8) throws IOException;
+
+        void putPrefix(String text, byte[] utf8, int byteCount) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class ChannelSink implements PayloadSink {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(STREAM_BUFFER_SIZE);
+
+        ChannelSink(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void put(String text, byte[] utf8) throws IOException {
+            putPrefix(text, utf8, utf8.length);
+        }
+
+        @Override
+        public void putPrefix(String text, byte[] utf8, int byteCount) throws IOException {
+            int offset = 0;
+            while (offset < byteCount) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int n = Math.min(buffer.remaining(), byteCount - offset);
+                buffer.put(utf8, offset, n);
+                offset += n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static final class WriterSink implements PayloadSink {
+        private final Writer writer;
+        private final char[] buffer = new char[STREAM_BUFFER_SIZE / 2];
+        private int position;
+
+        WriterSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void put(String text, byte[] utf8) throws IOException {
+            putChars(text, text.length());
+        }
+
+        @Override
+        public void putPrefix(String text, byte[] utf8, int byteCount) throws IOException {
+            // Map the byte prefix back to UTF-16 code units
+            int chars = 0;
+            int bytes = 0;
+            while (chars < text.length()) {
+                int cp = text.codePointAt(chars);
+                int len = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+                if (bytes + len > byteCount) {
+                    break;
+                }
+                bytes += len;
+                chars += Character.charCount(cp);
+            }
+            putChars(text, chars);
+        }
+
+        private void putChars(String text, int charCount) throws IOException {
+            int offset = 0;
+            while (offset < charCount) {
+                if (position == buffer.length) {
+                    flush();
+                }
+                int n = Math.min(buffer.length - position, charCount - offset);
+                text.getChars(offset, offset + n, buffer, position);
+                position += n;
+                offset += n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
     }
 
     // -- Nouns, Verbs, Adjectives --
@@ -278,7 +506,7 @@ public final class TextRandomly {
      * @return random noun
      */
     public String noun(Locale locale) {
-        return loadWord("nouns", locale);
+        return pick(NOUNS, locale);
     }
 
     /**
@@ -297,7 +525,7 @@ public final class TextRandomly {
      * @return random verb
      */
     public String verb(Locale locale) {
-        return loadWord("verbs", locale);
+        return pick(VERBS, locale);
     }
 
     /**
@@ -316,7 +544,7 @@ public final class TextRandomly {
      * @return random adjective
      */
     public String adjective(Locale locale) {
-        return loadWord("adjectives", locale);
+        return pick(ADJECTIVES, locale);
     }
 
     /**
@@ -336,9 +564,11 @@ public final class TextRandomly {
      * @return random compound name
      */
     public String compoundName(Locale locale) {
-        String adj = adjective(locale);
-        String noun = noun(locale);
-        return capitalize(adj) + capitalize(noun);
+        CatalogHandle adjectives = ADJECTIVES.handle(locale);
+        CatalogHandle nouns = NOUNS.handle(locale);
+        String adj = adjectives.capitalized(randomly.index(adjectives.size()));
+        String noun = nouns.capitalized(randomly.index(nouns.size()));
+        return adj.concat(noun);
     }
 
     /**
@@ -358,19 +588,60 @@ public final class TextRandomly {
      * @return random slug
      */
     public String slug(Locale locale) {
-        return adjective(locale).toLowerCase(locale) + "-" + noun(locale).toLowerCase(locale);
+        CatalogHandle adjectives = ADJECTIVES.handle(locale);
+        CatalogHandle nouns = NOUNS.handle(locale);
+        String adj = adjectives.kebabCase(randomly.index(adjectives.size()));
+        String noun = nouns.kebabCase(randomly.index(nouns.size()));
+        return new StringBuilder(adj.length() + 1 + noun.length())
+                .append(adj).append('-').append(noun)
+                .toString();
     }
 
-    private String loadWord(String catalog, Locale locale) {
-        Objects.requireNonNull(locale, "locale");
-        List<String> words = NumberedPropertiesCatalog.loadList(
-                "de/jinteg/randomly/catalog/text/" + catalog + "/" + catalog, locale);
-        return randomly.elementOf(words);
+    /**
+     * Returns a generator for unique compound names and slugs without numeric suffix,
+     * using the instance locale.
+     *
+     * @return unique name generator
+     * @see #uniqueNames(int, Locale)
+     */
+    public UniqueNames uniqueNames() {
+        return uniqueNames(0, randomly.getLocale());
+    }
+
+    /**
+     * Returns a generator for unique compound names and slugs with a numeric suffix in
+     * the range [0, suffixBound), using the instance locale.
+     *
+     * @param suffixBound exclusive upper bound of the numeric suffix, or 0 for no suffix
+     * @return unique name generator
+     * @see #uniqueNames(int, Locale)
+     */
+    public UniqueNames uniqueNames(int suffixBound) {
+        return uniqueNames(suffixBound, randomly.getLocale());
+    }
+
+    /**
+     * Returns a generator for unique compound names and slugs over the
+     * adjective × noun × suffix space of the word catalogs.
+     * <p>
+     * The permutation key is drawn from this instance, so the name sequence is reproducible
+     * for a given seed and scope.
+     *
+     * @param suffixBound exclusive upper bound of the numeric suffix, or 0 for no suffix
+     * @param locale      locale to use for catalog selection
+     * @return unique name generator
+     * @throws IllegalArgumentException if {@code suffixBound} is negative
+     */
+    public UniqueNames uniqueNames(int suffixBound, Locale locale) {
+        if (suffixBound < 0) {
+            throw new IllegalArgumentException("suffixBound must be >= 0");
+        }
+        return new UniqueNames(ADJECTIVES.handle(locale), NOUNS.handle(locale), suffixBound, randomly.nextLong());
     }
 
-    private static String capitalize(String s) {
-        if (s == null || s.isEmpty()) return s;
-        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    private String pick(LocalizedCatalog catalog, Locale locale) {
+        CatalogHandle handle = catalog.handle(locale);
+        return handle.get(randomly.index(handle.size()));
     }
 
 }
@@ -0,0 +1,86 @@
+package de.jinteg.randomly.core;
+
+import de.jinteg.randomly.internal.FeistelPermutation;
+
+import java.util.Objects;
+
+/**
+ * Generator for random-looking long IDs that never repeat within a range.
+ * <p>
+ * A counter is mapped through a seeded format-preserving permutation of {@code [min, max]}, so
+ * every ID is distinct until the range is exhausted — without remembering issued IDs. Memory use
+ * is O(1) regardless of how many IDs are issued. Instances are not thread-safe.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * UniqueLongIds ids = r.id().uniqueLongIds();
+ * long orderId = ids.next();
+ * }</pre>
+ */
+public final class UniqueLongIds {
+
+    private final long min;
+    private final FeistelPermutation permutation;
+    private long issued;
+
+    UniqueLongIds(long min, long max, long key) {
+        this.min = min;
+        this.permutation = new FeistelPermutation(max - min + 1, key);
+    }
+
+    /**
+     * Returns the number of distinct IDs in the range.
+     *
+     * @return capacity
+     */
+    public long capacity() {
+        return permutation.domainSize();
+    }
+
+    /**
+     * Returns the number of IDs that can still be issued.
+     *
+     * @return remaining IDs
+     */
+    public long remaining() {
+        return capacity() - issued;
+    }
+
+    /**
+     * Returns whether another ID can be issued.
+     *
+     * @return {@code true} if the range is not yet exhausted
+     */
+    public boolean hasNext() {
+        return issued < capacity();
+    }
+
+    /**
+     * Returns the next unique ID.
+     *
+     * @return ID in the configured range, distinct from all previously issued IDs
+     * @throws IllegalStateException if the range is exhausted
+     */
+    public long next() {
+        if (!hasNext()) {
+            throw new IllegalStateException("ID range exhausted after " + issued + " IDs");
+        }
+        return min + permutation.apply(issued++);
+    }
+
+    /**
+     * Fills {@code dst} with the next unique IDs.
+     *
+     * @param dst destination array
+     * @throws IllegalStateException if fewer than {@code dst.length} IDs remain
+     */
+    public void fill(long[] dst) {
+        Objects.requireNonNull(dst, "dst");
+        if (dst.length > remaining()) {
+            throw new IllegalStateException("Only " + remaining() + " IDs remain, requested " + dst.length);
+        }
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = min + permutation.apply(issued++);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package de.jinteg.randomly.core;
+
+import de.jinteg.randomly.internal.FeistelPermutation;
+import de.jinteg.randomly.internal.catalog.CatalogHandle;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Generator for unique human-readable names over the adjective × noun × suffix space.
+ * <p>
+ * Instead of drawing names and deduplicating them, a counter is mapped through a seeded
+ * bijective permutation of the whole combination space. Duplicate catalog words are skipped
+ * when the space is built, so every name is distinct until the space is exhausted, and the
+ * generator needs O(1) memory regardless of how many names are issued.
+ * <p>
+ * Compound names and slugs share one counter, so mixing both forms never repeats a combination.
+ * Instances are not thread-safe.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * UniqueNames names = r.text().uniqueNames(100);
+ * String tenant = names.nextSlug();          // "calm-river-42"
+ * String bucket = names.nextCompoundName();  // "BrightDolphin7"
+ * }</pre>
+ */
+public final class UniqueNames {
+
+    private final CatalogHandle adjectives;
+    private final CatalogHandle nouns;
+    private final int[] adjectiveIndices;
+    private final int[] nounIndices;
+    private final int suffixBound;
+    private final FeistelPermutation permutation;
+    private long issued;
+
+    UniqueNames(CatalogHandle adjectives, CatalogHandle nouns, int suffixBound, long key) {
+        if (suffixBound < 0) {
+            throw new IllegalArgumentException("suffixBound must be >= 0");
+        }
+        this.adjectives = adjectives;
+        this.nouns = nouns;
+        this.adjectiveIndices = distinctIndices(adjectives);
+        this.nounIndices = distinctIndices(nouns);
+        this.suffixBound = suffixBound;
+        long capacity = Math.multiplyExact(
+                (long) adjectiveIndices.length * nounIndices.length, Math.max(1, suffixBound));
+        this.permutation = new FeistelPermutation(capacity, key);
+    }
+
+    /**
+     * Returns the total number of distinct names in the combination space.
+     *
+     * @return capacity
+     */
+    public long capacity() {
+        return permutation.domainSize();
+    }
+
+    /**
+     * Returns the number of names that can still be issued.
+     *
+     * @return remaining names
+     */
+    public long remaining() {
+        return capacity() - issued;
+    }
+
+    /**
+     * Returns whether another name can be issued.
+     *
+     * @return {@code true} if the space is not yet exhausted
+     */
+    public boolean hasNext() {
+        return issued < capacity();
+    }
+
+    /**
+     * Returns the next unique compound name in CamelCase, e.g. "BrightDolphin" or,
+     * with a suffix bound, "BrightDolphin42".
+     *
+     * @return unique compound name
+     * @throws IllegalStateException if the combination space is exhausted
+     */
+    public String nextCompoundName() {
+        long combination = nextCombination();
+        int adj = adjectiveIndex(combination);
+        int noun = nounIndex(combination);
+        String a = adjectives.capitalized(adj);
+        String n = nouns.capitalized(noun);
+        if (suffixBound == 0) {
+            return a.concat(n);
+        }
+        return new StringBuilder(a.length() + n.length() + 10)
+                .append(a).append(n).append(suffix(combination))
+                .toString();
+    }
+
+    /**
+     * Returns the next unique slug in kebab-case, e.g. "calm-river" or,
+     * with a suffix bound, "calm-river-42".
+     *
+     * @return unique slug
+     * @throws IllegalStateException if the combination space is exhausted
+     */
+    public String nextSlug() {
+        long combination = nextCombination();
+        String a = adjectives.kebabCase(adjectiveIndex(combination));
+        String n = nouns.kebabCase(nounIndex(combination));
+        StringBuilder sb = new StringBuilder(a.length() + n.length() + 12)
+                .append(a).append('-').append(n);
+        if (suffixBound > 0) {
+            sb.append('-').append(suffix(combination));
+        }
+        return sb.toString();
+    }
+
+    // --- Internal helpers ---
+
+    private long nextCombination() {
+        if (!hasNext()) {
+            throw new IllegalStateException("Name space exhausted after " + issued + " names");
+        }
+        return permutation.apply(issued++);
+    }
+
+    private int suffix(long combination) {
+        return (int) (combination % suffixBound);
+    }
+
+    private long wordPair(long combination) {
+        return suffixBound == 0 ? combination : combination / suffixBound;
+    }
+
+    private int nounIndex(long combination) {
+        return nounIndices[(int) (wordPair(combination) % nounIndices.length)];
+    }
+
+    private int adjectiveIndex(long combination) {
+        return adjectiveIndices[(int) (wordPair(combination) / nounIndices.length)];
+    }
+
+    private static int[] distinctIndices(CatalogHandle words) {
+        Set<String> seen = new HashSet<>();
+        int[] indices = new int[words.size()];
+        int count = 0;
+        for (int i = 0; i < words.size(); i++) {
+            if (seen.add(words.lowerCase(i))) {
+                indices[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indices, count);
+    }
+}
@@ -0,0 +1,44 @@
+package de.jinteg.randomly.domain.finance;
+
+/**
+ * Payment card brand with its number prefixes and length.
+ */
+public enum CardBrand {
+    /**
+     * Visa: prefix 4, 16 digits.
+     */
+    VISA(16, "4"),
+    /**
+     * Mastercard: prefixes 51-55, 16 digits.
+     */
+    MASTERCARD(16, "51", "52", "53", "54", "55"),
+    /**
+     * American Express: prefixes 34 and 37, 15 digits.
+     */
+    AMEX(15, "34", "37");
+
+    private final int length;
+    private final String[] prefixes;
+
+    CardBrand(int length, String... prefixes) {
+        this.length = length;
+        this.prefixes = prefixes;
+    }
+
+    /**
+     * Returns the number of digits, including the Luhn check digit.
+     *
+     * @return card number length
+     */
+    public int length() {
+        return length;
+    }
+
+    int prefixCount() {
+        return prefixes.length;
+    }
+
+    String prefix(int index) {
+        return prefixes[index];
+    }
+}
@@ -0,0 +1,152 @@
+package de.jinteg.randomly.domain.finance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * All available currencies, sorted by ISO 4217 code, with per-locale symbol columns and
+ * bitmask-based exclusion.
+ * <p>
+ * {@link Currency#getAvailableCurrencies()} is an unordered set, so the sorted array also
+ * keeps seeded picks stable across JVM runs.
+ */
+final class CurrencyTable {
+
+    private static final Currency[] CURRENCIES = Currency.getAvailableCurrencies().stream()
+            .sorted(Comparator.comparing(Currency::getCurrencyCode))
+            .toArray(Currency[]::new);
+    private static final Map<String, Integer> INDEX_BY_CODE = indexByCode();
+    private static final Map<Locale, Symbols> SYMBOLS = new ConcurrentHashMap<>();
+
+    private static final int[] NO_INDICES = new int[0];
+
+    private static final int WORDS = (CURRENCIES.length + 63) >>> 6;
+    private static final ThreadLocal<long[]> MASK = ThreadLocal.withInitial(() -> new long[WORDS]);
+
+    private CurrencyTable() {
+    }
+
+    static int size() {
+        return CURRENCIES.length;
+    }
+
+    static Currency currency(int index) {
+        return CURRENCIES[index];
+    }
+
+    static String code(int index) {
+        return CURRENCIES[index].getCurrencyCode();
+    }
+
+    /**
+     * Returns the index of the currency with the given code, or -1 if it is not in the table.
+     */
+    static int indexOf(String code) {
+        if (code == null) return -1;
+        Integer index = INDEX_BY_CODE.get(code);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the symbols of all currencies as displayed in the given locale.
+     */
+    static Symbols symbols(Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+        Symbols symbols = SYMBOLS.get(locale);
+        return symbols != null ? symbols : SYMBOLS.computeIfAbsent(locale, Symbols::new);
+    }
+
+    /**
+     * Returns this thread's exclusion mask, cleared. Bits past the last currency are pre-set
+     * so they are never selected.
+     */
+    static long[] clearedMask() {
+        long[] mask = MASK.get();
+        Arrays.fill(mask, 0L);
+        int tail = CURRENCIES.length & 63;
+        if (tail != 0) {
+            mask[WORDS - 1] = -1L << tail;
+        }
+        return mask;
+    }
+
+    /**
+     * Marks {@code index} as excluded; returns 1 if it was not excluded before, 0 otherwise.
+     */
+    static int exclude(long[] mask, int index) {
+        long bit = 1L << index;
+        int word = index >>> 6;
+        if ((mask[word] & bit) != 0) return 0;
+        mask[word] |= bit;
+        return 1;
+    }
+
+    /**
+     * Returns the index of the {@code rank}-th (zero-based) currency not excluded in {@code mask}.
+     */
+    static int select(long[] mask, int rank) {
+        for (int w = 0; w < mask.length; w++) {
+            long free = ~mask[w];
+            int count = Long.bitCount(free);
+            if (rank < count) {
+                for (int i = 0; i < rank; i++) {
+                    free &= free - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(free);
+            }
+            rank -= count;
+        }
+        throw new IllegalStateException("rank exceeds number of eligible currencies");
+    }
+
+    private static Map<String, Integer> indexByCode() {
+        Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < CURRENCIES.length; i++) {
+            map.put(CURRENCIES[i].getCurrencyCode(), i);
+        }
+        return Map.copyOf(map);
+    }
+
+    /**
+     * Currency symbols of one display locale, with the indices of all currencies sharing a symbol.
+     */
+    static final class Symbols {
+
+        private final String[] symbols;
+        private final Map<String, int[]> indicesBySymbol;
+
+        private Symbols(Locale locale) {
+            this.symbols = new String[CURRENCIES.length];
+            Map<String, List<Integer>> grouped = new HashMap<>();
+            for (int i = 0; i < CURRENCIES.length; i++) {
+                symbols[i] = CURRENCIES[i].getSymbol(locale);
+                grouped.computeIfAbsent(symbols[i], s -> new ArrayList<>()).add(i);
+            }
+            Map<String, int[]> map = new HashMap<>();
+            grouped.forEach((symbol, indices) ->
+                    map.put(symbol, indices.stream().mapToInt(Integer::intValue).toArray()));
+            this.indicesBySymbol = Map.copyOf(map);
+        }
+
+        String symbol(int index) {
+            return symbols[index];
+        }
+
+        /**
+         * Returns the indices of all currencies with the given symbol; empty if none.
+         */
+        int[] indicesOf(String symbol) {
+            if (symbol == null) return NO_INDICES;
+            int[] indices = indicesBySymbol.get(symbol);
+            return indices == null ? NO_INDICES : indices;
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package de.jinteg.randomly.domain.finance;
 
 import de.jinteg.randomly.JRandomly;
-import de.jinteg.randomly.internal.catalog.NumberedPropertiesCatalog;
-import de.jinteg.randomly.internal.catalog.RawParserUtil;
+import de.jinteg.randomly.internal.SplitMix64;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
 import java.util.*;
 
 /**
  * Provides finance-related random data, such as stock symbols and stock entries.
  */
 public final class FinanceRandomly {
+    private static final double LOG_MIN_UNITS_PER_USD = Math.log(0.1);
+    private static final double LOG_MAX_UNITS_PER_USD = Math.log(1000);
+
     private final JRandomly randomly;
-    private static final List<Currency> AVAILABLE_CURRENCIES = List.copyOf(Currency.getAvailableCurrencies());
+    private double[] unitsPerUsd;
 
 
     /**
@@ -40,7 +45,8 @@ public final class FinanceRandomly {
      * @return stock symbol
      */
     public String stockSymbol(Locale locale) {
-        return stock(locale).symbol();
+        StockCatalog catalog = StockCatalog.forLocale(locale);
+        return catalog.symbol(randomly.index(catalog.size()));
     }
 
     /**
@@ -59,22 +65,351 @@ public final class FinanceRandomly {
      * @return stock entry
      */
     public StockEntry stock(Locale locale) {
+        StockCatalog catalog = StockCatalog.forLocale(locale);
+        return catalog.entry(randomly.index(catalog.size()));
+    }
+
+    /**
+     * Simulates a price path of {@code steps} steps starting at the stock's price.
+     *
+     * @param start stock whose price is the first path element
+     * @param steps number of steps (&gt;= 0)
+     * @param model price model
+     * @return path of {@code steps + 1} prices
+     * @see #pricePath(double, PriceModel, double[])
+     */
+    public double[] pricePath(StockEntry start, int steps, PriceModel model) {
+        Objects.requireNonNull(start, "start");
+        if (steps < 0) throw new IllegalArgumentException("steps must be >= 0");
+        double[] path = new double[steps + 1];
+        pricePath(start.price(), model, path);
+        return path;
+    }
+
+    /**
+     * Fills {@code dst} with a simulated price path; {@code dst[0]} is {@code startPrice}.
+     * The path draws from its own generator, seeded by a single draw from this instance.
+     *
+     * @param startPrice first price (&gt; 0)
+     * @param model      price model
+     * @param dst        destination, one element per time point
+     */
+    public void pricePath(double startPrice, PriceModel model, double[] dst) {
+        Objects.requireNonNull(model, "model");
+        Objects.requireNonNull(dst, "dst");
+        requirePositivePrice(startPrice);
+        new PriceSimulator(model, new SplitMix64(randomly.nextLong())).fill(startPrice, dst);
+    }
+
+    /**
+     * Fills {@code dst[asset]} with correlated price paths. The diffusion shocks are correlated
+     * via the Cholesky factor of {@code correlation}; jumps of a {@link PriceModel.Merton} model
+     * are independent per asset.
+     *
+     * @param startPrices first price per asset (&gt; 0)
+     * @param correlation symmetric, positive definite correlation matrix with unit diagonal
+     * @param model       price model shared by all assets
+     * @param dst         destination; one row per asset, all rows of equal length
+     */
+    public void correlatedPricePaths(double[] startPrices, double[][] correlation, PriceModel model, double[][] dst) {
+        Objects.requireNonNull(startPrices, "startPrices");
+        Objects.requireNonNull(correlation, "correlation");
+        Objects.requireNonNull(model, "model");
+        Objects.requireNonNull(dst, "dst");
+        int assets = startPrices.length;
+        if (correlation.length != assets || dst.length != assets) {
+            throw new IllegalArgumentException("startPrices, correlation and dst must have one entry per asset");
+        }
+        if (assets == 0) return;
+        int length = Objects.requireNonNull(dst[0], "dst row").length;
+        for (int a = 0; a < assets; a++) {
+            requirePositivePrice(startPrices[a]);
+            if (Objects.requireNonNull(dst[a], "dst row").length != length) {
+                throw new IllegalArgumentException("dst rows must have equal length");
+            }
+        }
+        double[][] cholesky = PriceSimulator.cholesky(correlation);
+        if (length == 0) return;
+        new PriceSimulator(model, new SplitMix64(randomly.nextLong()))
+                .fillCorrelated(startPrices, cholesky, dst, length - 1);
+    }
+
+    /**
+     * Returns an endless tick stream over the stock catalog of this instance's locale.
+     *
+     * @param ticksPerSecond mean event rate (&gt; 0)
+     * @return tick stream
+     * @see #ticks(Locale, double)
+     */
+    public TickStream ticks(double ticksPerSecond) {
+        return ticks(randomly.getLocale(), ticksPerSecond);
+    }
+
+    /**
+     * Returns an endless tick stream of trades, quotes and order-book deltas for the stocks of
+     * the given locale's catalog. Timestamps start at the run start time; the stream draws from
+     * its own generator, seeded by a single draw from this instance.
+     *
+     * @param locale         locale to use for catalog selection
+     * @param ticksPerSecond mean event rate (&gt; 0)
+     * @return tick stream
+     */
+    public TickStream ticks(Locale locale, double ticksPerSecond) {
+        if (!(ticksPerSecond > 0) || Double.isInfinite(ticksPerSecond)) {
+            throw new IllegalArgumentException("ticksPerSecond must be > 0 and finite");
+        }
+        StockCatalog catalog = StockCatalog.forLocale(locale);
+        Instant start = randomly.getRunStartTime();
+        long startNanos = Math.addExact(Math.multiplyExact(start.getEpochSecond(), 1_000_000_000L), start.getNano());
+        return new TickStream(catalog, new SplitMix64(randomly.nextLong()), startNanos, ticksPerSecond);
+    }
+
+    /**
+     * Returns an endless stream of balanced double-entry transactions with the
+     * {@link LedgerOptions#defaults() default options}.
+     *
+     * @return ledger stream
+     * @see #ledger(LedgerOptions)
+     */
+    public LedgerStream ledger() {
+        return ledger(LedgerOptions.defaults());
+    }
+
+    /**
+     * Returns an endless stream of double-entry transactions over a generated chart of
+     * accounts, with running balances and optional anomalies. Timestamps start at the run start
+     * time; the stream draws from its own generator, seeded by a single draw from this instance.
+     *
+     * @param options chart, amount, rate and anomaly settings
+     * @return ledger stream
+     */
+    public LedgerStream ledger(LedgerOptions options) {
+        Objects.requireNonNull(options, "options");
+        Instant start = randomly.getRunStartTime();
+        long startNanos = Math.addExact(Math.multiplyExact(start.getEpochSecond(), 1_000_000_000L), start.getNano());
+        return new LedgerStream(options, new SplitMix64(randomly.nextLong()), startNanos);
+    }
+
+    /**
+     * Returns a checksum-valid IBAN for the country of this instance's locale, or for
+     * {@code DE}/{@code GB} (by language) if that country has no supported IBAN format.
+     *
+     * @return IBAN without spaces
+     */
+    public String iban() {
+        Locale locale = randomly.getLocale();
+        String country = locale.getCountry();
+        if (!FinancialIds.supportsIban(country)) {
+            country = "de".equals(locale.getLanguage()) ? "DE" : "GB";
+        }
+        return FinancialIds.iban(randomly, country);
+    }
+
+    /**
+     * Returns a checksum-valid IBAN for the given country, e.g. {@code DE89370400440532013000}.
+     *
+     * @param countryCode ISO 3166 alpha-2 country code (case-insensitive); one of AT, BE, CH, DE, ES, FR, GB, IT, LU, NL, PL
+     * @return IBAN without spaces
+     * @throws IllegalArgumentException if the code does not have two letters or the country is not supported
+     */
+    public String iban(String countryCode) {
+        Objects.requireNonNull(countryCode, "countryCode");
+        if (countryCode.length() != 2) throw new IllegalArgumentException("countryCode must have 2 letters");
+        return FinancialIds.iban(randomly, countryCode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns an 11-character BIC for the country of this instance's locale
+     * ({@code DE} or {@code US} by language if the locale has no country).
+     *
+     * @return BIC
+     */
+    public String bic() {
+        Locale locale = randomly.getLocale();
+        String country = locale.getCountry();
+        if (country.length() != 2) {
+            country = "de".equals(locale.getLanguage()) ? "DE" : "US";
+        }
+        return FinancialIds.bic(randomly, country);
+    }
+
+    /**
+     * Returns an 11-character BIC: bank code, country, location and branch ({@code XXX} for the head office).
+     *
+     * @param countryCode ISO 3166 alpha-2 country code
+     * @return BIC
+     */
+    public String bic(String countryCode) {
+        Objects.requireNonNull(countryCode, "countryCode");
+        if (countryCode.length() != 2) throw new IllegalArgumentException("countryCode must have 2 letters");
+        return FinancialIds.bic(randomly, countryCode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns a checksum-valid ISIN matching the stock catalog of this instance's locale.
+     *
+     * @return ISIN
+     * @see #isin(Locale)
+     */
+    public String isin() {
+        return isin(randomly.getLocale());
+    }
+
+    /**
+     * Returns a checksum-valid ISIN matching the stock catalog of the given locale: German
+     * locales yield {@code DE000} + WKN + check digit, all others {@code US} + CUSIP + check digit.
+     *
+     * @param locale locale to use for catalog selection
+     * @return ISIN
+     */
+    public String isin(Locale locale) {
         Objects.requireNonNull(locale, "locale");
-        List<String> entries = NumberedPropertiesCatalog.loadList(
-                "de/jinteg/randomly/catalog/finance/stocks",
-                locale
-        );
-        String raw = entries.get(randomly.index(entries.size()));
-        return StockEntry.parse(RawParserUtil.parse(raw, StockEntry.COLUMN_COUNT));
+        return "de".equals(locale.getLanguage()) ? FinancialIds.isinDe(randomly) : FinancialIds.isinUs(randomly);
+    }
+
+    /**
+     * Returns a German WKN (Wertpapierkennnummer): six digits or letters, without I and O.
+     *
+     * @return WKN
+     */
+    public String wkn() {
+        return FinancialIds.wkn(randomly);
+    }
+
+    /**
+     * Returns a Luhn-valid card number of a random brand.
+     *
+     * @return card number without separators
+     */
+    public String cardNumber() {
+        CardBrand[] brands = CardBrand.values();
+        return cardNumber(brands[randomly.index(brands.length)]);
+    }
+
+    /**
+     * Returns a Luhn-valid card number of the given brand.
+     *
+     * @param brand card brand
+     * @return card number without separators
+     */
+    public String cardNumber(CardBrand brand) {
+        Objects.requireNonNull(brand, "brand");
+        return FinancialIds.cardNumber(randomly, brand);
     }
 
     /**
-     * Returns a random currency.
+     * Returns an exact money amount between {@code min} and {@code max} (both inclusive) with the
+     * currency's default fraction digits, e.g. {@code 19.99} for EUR or {@code 1999} for JPY.
+     * The amount is drawn as an unscaled {@code long}; no floating-point arithmetic is involved.
+     * Pseudo-currencies without fraction digits (e.g. XAU) use scale 0.
+     *
+     * @param currency currency that defines the scale
+     * @param min      lower bound (inclusive), rounded up to the scale
+     * @param max      upper bound (inclusive), rounded down to the scale
+     * @return amount with scale {@link #amountScale(Currency)}
+     * @throws IllegalArgumentException if no amount of that scale lies between min and max
+     * @throws ArithmeticException      if a bound does not fit into an unscaled {@code long}
+     */
+    public BigDecimal amount(Currency currency, BigDecimal min, BigDecimal max) {
+        Objects.requireNonNull(min, "min");
+        Objects.requireNonNull(max, "max");
+        int scale = amountScale(currency);
+        long lower = min.setScale(scale, RoundingMode.CEILING).unscaledValue().longValueExact();
+        long upper = max.setScale(scale, RoundingMode.FLOOR).unscaledValue().longValueExact();
+        if (lower > upper) {
+            throw new IllegalArgumentException("no amount with scale " + scale + " between min and max");
+        }
+        return BigDecimal.valueOf(randomly.longBetween(lower, upper), scale);
+    }
+
+    /**
+     * Returns a random unscaled amount between {@code minUnscaled} and {@code maxUnscaled}
+     * (both inclusive), e.g. cents for EUR. Combine with {@link #amountScale(Currency)} via
+     * {@code BigDecimal.valueOf(unscaled, scale)} where a {@code BigDecimal} is needed.
+     *
+     * @param minUnscaled lower bound in minor units (inclusive)
+     * @param maxUnscaled upper bound in minor units (inclusive)
+     * @return unscaled amount
+     */
+    public long amountUnscaled(long minUnscaled, long maxUnscaled) {
+        return randomly.longBetween(minUnscaled, maxUnscaled);
+    }
+
+    /**
+     * Fills {@code dst} with random unscaled amounts between {@code minUnscaled} and
+     * {@code maxUnscaled} (both inclusive).
+     *
+     * @param dst         destination array
+     * @param minUnscaled lower bound in minor units (inclusive)
+     * @param maxUnscaled upper bound in minor units (inclusive)
+     */
+    public void fillAmountsUnscaled(long[] dst, long minUnscaled, long maxUnscaled) {
+        Objects.requireNonNull(dst, "dst");
+        if (minUnscaled > maxUnscaled) {
+            throw new IllegalArgumentException("minUnscaled must be <= maxUnscaled");
+        }
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = randomly.longBetween(minUnscaled, maxUnscaled);
+        }
+    }
+
+    /**
+     * Returns the scale used for amounts of the given currency: its default fraction digits,
+     * or 0 for pseudo-currencies without them.
+     *
+     * @param currency currency
+     * @return amount scale
+     */
+    public static int amountScale(Currency currency) {
+        Objects.requireNonNull(currency, "currency");
+        return Math.max(0, currency.getDefaultFractionDigits());
+    }
+
+    /**
+     * Returns arbitrage-free exchange rates between the given currencies.
+     * <p>
+     * Each currency's value in units of USD is drawn once per instance and reused by later
+     * calls, so rates from the same scope always agree. Missing values are drawn in currency
+     * code order, independent of the iteration order of {@code currencies}.
+     *
+     * @param currencies currencies to cover
+     * @return exchange rates
+     */
+    public FxRates fxRates(Collection<Currency> currencies) {
+        Objects.requireNonNull(currencies, "currencies");
+        if (unitsPerUsd == null) {
+            unitsPerUsd = new double[CurrencyTable.size()];
+            Arrays.fill(unitsPerUsd, Double.NaN);
+            int usd = CurrencyTable.indexOf("USD");
+            if (usd >= 0) unitsPerUsd[usd] = 1.0;
+        }
+        long[] mask = CurrencyTable.clearedMask();
+        for (Currency currency : currencies) {
+            int index = CurrencyTable.indexOf(Objects.requireNonNull(currency, "currency").getCurrencyCode());
+            if (index < 0) throw new IllegalArgumentException("Unknown currency: " + currency);
+            CurrencyTable.exclude(mask, index);
+        }
+
+        double[] selected = new double[unitsPerUsd.length];
+        Arrays.fill(selected, Double.NaN);
+        for (int index = 0; index < unitsPerUsd.length; index++) {
+            if ((mask[index >>> 6] & (1L << index)) == 0) continue;
+            if (Double.isNaN(unitsPerUsd[index])) {
+                unitsPerUsd[index] = Math.exp(randomly.doubleBetween(LOG_MIN_UNITS_PER_USD, LOG_MAX_UNITS_PER_USD));
+            }
+            selected[index] = unitsPerUsd[index];
+        }
+        return new FxRates(selected);
+    }
+
+    /**
+     * Returns a random currency. Currencies are ordered by ISO 4217 code, so seeded picks are
+     * stable across JVM runs.
      *
      * @return random currency
      */
     public Currency currency() {
-        return AVAILABLE_CURRENCIES.get(randomly.index(AVAILABLE_CURRENCIES.size()));
+        return CurrencyTable.currency(randomly.index(CurrencyTable.size()));
     }
 
     /**
@@ -82,9 +417,17 @@ public final class FinanceRandomly {
      *
      * @param excluding currencies to exclude
      * @return random currency
+     * @throws IllegalArgumentException if no currency remains after exclusion
      */
     public Currency currency(Collection<Currency> excluding) {
-        return randomly.elementOf(AVAILABLE_CURRENCIES, excluding);
+        Objects.requireNonNull(excluding, "excluding");
+        long[] mask = CurrencyTable.clearedMask();
+        int excluded = 0;
+        for (Currency currency : excluding) {
+            int index = currency == null ? -1 : CurrencyTable.indexOf(currency.getCurrencyCode());
+            if (index >= 0) excluded += CurrencyTable.exclude(mask, index);
+        }
+        return CurrencyTable.currency(pick(mask, excluded));
     }
 
     /**
@@ -93,7 +436,7 @@ public final class FinanceRandomly {
      * @return random currency code
      */
     public String currencyCode() {
-        return currency().getCurrencyCode();
+        return CurrencyTable.code(randomly.index(CurrencyTable.size()));
     }
 
     /**
@@ -101,14 +444,17 @@ public final class FinanceRandomly {
      *
      * @param excluding currency codes to exclude
      * @return random currency code
+     * @throws IllegalArgumentException if no currency remains after exclusion
      */
     public String currencyCode(Collection<String> excluding) {
         Objects.requireNonNull(excluding, "excluding");
-        List<String> filtered = AVAILABLE_CURRENCIES.stream()
-                .map(Currency::getCurrencyCode)
-                .filter(code -> !excluding.contains(code))
-                .toList();
-        return randomly.elementOf(filtered);
+        long[] mask = CurrencyTable.clearedMask();
+        int excluded = 0;
+        for (String code : excluding) {
+            int index = CurrencyTable.indexOf(code);
+            if (index >= 0) excluded += CurrencyTable.exclude(mask, index);
+        }
+        return CurrencyTable.code(pick(mask, excluded));
     }
 
     /**
@@ -117,22 +463,50 @@ public final class FinanceRandomly {
      * @return Returns one char currency symbol, e.g. "$", "€", "£"
      */
     public String currencySymbol() {
-        return currency().getSymbol();
+        return currencySymbol(Locale.getDefault(Locale.Category.DISPLAY));
     }
 
     /**
-     * Returns a random currency code, excluding the specified codes.
+     * Returns a random currency symbol as displayed in the given locale.
      *
-     * @param excluding currency codes to exclude
-     * @return random currency code
+     * @param displayLocale locale used to display the symbol
+     * @return currency symbol
+     */
+    public String currencySymbol(Locale displayLocale) {
+        return CurrencyTable.symbols(displayLocale).symbol(randomly.index(CurrencyTable.size()));
+    }
+
+    /**
+     * Returns a random currency symbol, excluding every currency whose symbol is in {@code excluding}.
+     *
+     * @param excluding currency symbols to exclude
+     * @return random currency symbol
+     * @throws IllegalArgumentException if no currency remains after exclusion
      */
     public String currencySymbol(Collection<String> excluding) {
         Objects.requireNonNull(excluding, "excluding");
-        List<String> filtered = AVAILABLE_CURRENCIES.stream()
-                .map(Currency::getSymbol)
-                .filter(code -> !excluding.contains(code))
-                .toList();
-        return randomly.elementOf(filtered);
+        CurrencyTable.Symbols symbols = CurrencyTable.symbols(Locale.getDefault(Locale.Category.DISPLAY));
+        long[] mask = CurrencyTable.clearedMask();
+        int excluded = 0;
+        for (String symbol : excluding) {
+            for (int index : symbols.indicesOf(symbol)) {
+                excluded += CurrencyTable.exclude(mask, index);
+            }
+        }
+        return symbols.symbol(pick(mask, excluded));
     }
 
-}
\ No newline at end of file
+    private int pick(long[] mask, int excluded) {
+        int remaining = CurrencyTable.size() - excluded;
+        if (remaining == 0) {
+            throw new IllegalArgumentException("No elements remain after exclusion");
+        }
+        return CurrencyTable.select(mask, randomly.index(remaining));
+    }
+
+    private static void requirePositivePrice(double price) {
+        if (!(price > 0) || Double.isInfinite(price)) {
+            throw new IllegalArgumentException("start price must be > 0 and finite");
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.JRandomly;
+
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Checksum-valid account, bank and security identifiers.
+ * <p>
+ * Each identifier is written into a char buffer of its final length; check digits are computed
+ * with incremental integer arithmetic (mod 97, Luhn, CUSIP) directly on the buffer.
+ */
+final class FinancialIds {
+
+    private static final char[] DIGITS = "0123456789".toCharArray();
+    private static final char[] LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final char[] ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    /**
+     * Digits and letters without I and O, as used by WKN and CUSIP issuer codes.
+     */
+    private static final char[] SECURITY_CHARS = "0123456789ABCDEFGHJKLMNPQRSTUVWXYZ".toCharArray();
+
+    /**
+     * BBAN structure per country: groups of length and class ({@code n} digits,
+     * {@code a} upper-case letters, {@code c} alphanumeric).
+     */
+    private static final Map<String, String> BBAN_FORMATS = Map.ofEntries(
+            Map.entry("AT", "16n"),
+            Map.entry("BE", "12n"),
+            Map.entry("CH", "5n12c"),
+            Map.entry("DE", "18n"),
+            Map.entry("ES", "20n"),
+            Map.entry("FR", "10n11c2n"),
+            Map.entry("GB", "4a14n"),
+            Map.entry("IT", "1a10n12c"),
+            Map.entry("LU", "3n13c"),
+            Map.entry("NL", "4a10n"),
+            Map.entry("PL", "24n")
+    );
+
+    private FinancialIds() {
+    }
+
+    static boolean supportsIban(String country) {
+        return BBAN_FORMATS.containsKey(country);
+    }
+
+    static String iban(JRandomly randomly, String country) {
+        String format = BBAN_FORMATS.get(country);
+        if (format == null) {
+            throw new IllegalArgumentException("Unsupported IBAN country: " + country
+                    + ", supported: " + new TreeSet<>(BBAN_FORMATS.keySet()));
+        }
+        char[] buf = new char[4 + bbanLength(format)];
+        buf[0] = country.charAt(0);
+        buf[1] = country.charAt(1);
+        int pos = 4;
+        for (int i = 0; i < format.length(); ) {
+            int count = 0;
+            char c;
+            while (Character.isDigit(c = format.charAt(i++))) {
+                count = count * 10 + (c - '0');
+            }
+            char[] alphabet = c == 'n' ? DIGITS : c == 'a' ? LETTERS : ALPHANUMERIC;
+            pos = fill(randomly, alphabet, buf, pos, count);
+        }
+
+        // ISO 13616: mod 97 over BBAN + country + "00", letters expanded to two digits.
+        int remainder = mod97(buf, 4, buf.length, 0);
+        remainder = mod97(buf, 0, 2, remainder);
+        remainder = (remainder * 100) % 97;
+        int check = 98 - remainder;
+        buf[2] = (char) ('0' + check / 10);
+        buf[3] = (char) ('0' + check % 10);
+        return new String(buf);
+    }
+
+    static String bic(JRandomly randomly, String country) {
+        char[] buf = new char[11];
+        int pos = fill(randomly, LETTERS, buf, 0, 4);
+        buf[pos++] = country.charAt(0);
+        buf[pos++] = country.charAt(1);
+        buf[pos++] = ALPHANUMERIC[randomly.index(ALPHANUMERIC.length)];
+        // A '0' in the second location character marks test BICs.
+        buf[pos++] = ALPHANUMERIC[1 + randomly.index(ALPHANUMERIC.length - 1)];
+        if (randomly.index(2) == 0) {
+            buf[pos++] = 'X';
+            buf[pos++] = 'X';
+            buf[pos] = 'X';
+        } else {
+            fill(randomly, ALPHANUMERIC, buf, pos, 3);
+        }
+        return new String(buf);
+    }
+
+    static String wkn(JRandomly randomly) {
+        char[] buf = new char[6];
+        fill(randomly, SECURITY_CHARS, buf, 0, 6);
+        return new String(buf);
+    }
+
+    /**
+     * German ISIN: {@code DE000} + WKN + check digit.
+     */
+    static String isinDe(JRandomly randomly) {
+        char[] buf = {'D', 'E', '0', '0', '0', 0, 0, 0, 0, 0, 0, 0};
+        fill(randomly, SECURITY_CHARS, buf, 5, 6);
+        buf[11] = isinCheckDigit(buf);
+        return new String(buf);
+    }
+
+    /**
+     * US ISIN: {@code US} + CUSIP (6-character issuer, 2-digit issue, check digit) + check digit.
+     */
+    static String isinUs(JRandomly randomly) {
+        char[] buf = new char[12];
+        buf[0] = 'U';
+        buf[1] = 'S';
+        int pos = fill(randomly, SECURITY_CHARS, buf, 2, 6);
+        fill(randomly, DIGITS, buf, pos, 2);
+        buf[10] = cusipCheckDigit(buf, 2);
+        buf[11] = isinCheckDigit(buf);
+        return new String(buf);
+    }
+
+    static String cardNumber(JRandomly randomly, CardBrand brand) {
+        char[] buf = new char[brand.length()];
+        String prefix = brand.prefix(randomly.index(brand.prefixCount()));
+        prefix.getChars(0, prefix.length(), buf, 0);
+        fill(randomly, DIGITS, buf, prefix.length(), buf.length - 1 - prefix.length());
+        buf[buf.length - 1] = luhnCheckDigit(buf, buf.length - 1);
+        return new String(buf);
+    }
+
+    /**
+     * Continues an ISO 7064 mod 97-10 remainder over {@code buf[from, to)}.
+     */
+    static int mod97(char[] buf, int from, int to, int remainder) {
+        for (int i = from; i < to; i++) {
+            char c = buf[i];
+            remainder = c <= '9'
+                    ? (remainder * 10 + (c - '0')) % 97
+                    : (remainder * 100 + (c - 'A' + 10)) % 97;
+        }
+        return remainder;
+    }
+
+    /**
+     * ISIN check digit: Luhn over the first eleven characters, each letter expanded to its
+     * two-digit value (A = 10 ... Z = 35).
+     */
+    static char isinCheckDigit(char[] buf) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = 10; i >= 0; i--) {
+            int v = buf[i] <= '9' ? buf[i] - '0' : buf[i] - 'A' + 10;
+            if (v >= 10) {
+                sum += luhnDigit(v % 10, doubled);
+                doubled = !doubled;
+                sum += luhnDigit(v / 10, doubled);
+            } else {
+                sum += luhnDigit(v, doubled);
+            }
+            doubled = !doubled;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    /**
+     * Luhn check digit over the decimal digits {@code buf[0, length)}.
+     */
+    static char luhnCheckDigit(char[] buf, int length) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = length - 1; i >= 0; i--) {
+            sum += luhnDigit(buf[i] - '0', doubled);
+            doubled = !doubled;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    /**
+     * CUSIP check digit over the eight characters starting at {@code off}.
+     */
+    static char cusipCheckDigit(char[] buf, int off) {
+        int sum = 0;
+        for (int i = 0; i < 8; i++) {
+            char c = buf[off + i];
+            int v = c <= '9' ? c - '0' : c - 'A' + 10;
+            if ((i & 1) == 1) v *= 2;
+            sum += v / 10 + v % 10;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+
+    private static int luhnDigit(int digit, boolean doubled) {
+        if (!doubled) return digit;
+        int d = digit * 2;
+        return d > 9 ? d - 9 : d;
+    }
+
+    private static int fill(JRandomly randomly, char[] alphabet, char[] buf, int pos, int count) {
+        for (int i = 0; i < count; i++) {
+            buf[pos++] = alphabet[randomly.index(alphabet.length)];
+        }
+        return pos;
+    }
+
+    private static int bbanLength(String format) {
+        int total = 0;
+        int count = 0;
+        for (int i = 0; i < format.length(); i++) {
+            char c = format.charAt(i);
+            if (Character.isDigit(c)) {
+                count = count * 10 + (c - '0');
+            } else {
+                total += count;
+                count = 0;
+            }
+        }
+        return total;
+    }
+}
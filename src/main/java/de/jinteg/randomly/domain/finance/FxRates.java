@@ -0,0 +1,92 @@
+package de.jinteg.randomly.domain.finance;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Arbitrage-free exchange rates between a fixed set of currencies.
+ * <p>
+ * Every currency has one value in units per base currency; a cross rate is the quotient of
+ * two such values, so {@code rate(a, b) * rate(b, c) == rate(a, c)} up to floating-point
+ * rounding. Lookups index a primitive array by the currency's position in the code-sorted
+ * currency table. Instances are immutable.
+ */
+public final class FxRates {
+
+    private final double[] unitsPerBase;
+    private final List<Currency> currencies;
+
+    FxRates(double[] unitsPerBase) {
+        this.unitsPerBase = unitsPerBase;
+        List<Currency> list = new ArrayList<>();
+        for (int i = 0; i < unitsPerBase.length; i++) {
+            if (!Double.isNaN(unitsPerBase[i])) {
+                list.add(CurrencyTable.currency(i));
+            }
+        }
+        this.currencies = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns the currencies covered by these rates, ordered by ISO 4217 code.
+     *
+     * @return covered currencies
+     */
+    public List<Currency> currencies() {
+        return currencies;
+    }
+
+    /**
+     * Returns how many units of {@code to} one unit of {@code from} buys.
+     *
+     * @param from source currency
+     * @param to   target currency
+     * @return exchange rate
+     * @throws IllegalArgumentException if a currency is not covered
+     */
+    public double rate(Currency from, Currency to) {
+        Objects.requireNonNull(from, "from");
+        Objects.requireNonNull(to, "to");
+        return rate(from.getCurrencyCode(), to.getCurrencyCode());
+    }
+
+    /**
+     * Returns how many units of {@code toCode} one unit of {@code fromCode} buys.
+     *
+     * @param fromCode source currency code
+     * @param toCode   target currency code
+     * @return exchange rate
+     * @throws IllegalArgumentException if a currency is not covered
+     */
+    public double rate(String fromCode, String toCode) {
+        return unitsPerBase[slot(toCode)] / unitsPerBase[slot(fromCode)];
+    }
+
+    /**
+     * Converts an amount and rounds it half-even to the target currency's amount scale.
+     *
+     * @param amount amount in {@code from}
+     * @param from   source currency
+     * @param to     target currency
+     * @return converted amount
+     * @throws IllegalArgumentException if a currency is not covered
+     */
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        Objects.requireNonNull(amount, "amount");
+        return amount.multiply(BigDecimal.valueOf(rate(from, to)))
+                .setScale(FinanceRandomly.amountScale(to), RoundingMode.HALF_EVEN);
+    }
+
+    private int slot(String code) {
+        int index = CurrencyTable.indexOf(code);
+        if (index < 0 || Double.isNaN(unitsPerBase[index])) {
+            throw new IllegalArgumentException("Currency not covered by these rates: " + code);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,157 @@
+package de.jinteg.randomly.domain.finance;
+
+import java.util.Currency;
+
+/**
+ * Mutable double-entry transaction produced by {@link LedgerStream}.
+ * <p>
+ * A stream reuses one instance and overwrites it on every {@link LedgerStream#next()}; copy the
+ * values you need to keep. Leg amounts are signed unscaled values in minor units of
+ * {@link #currency()}: positive for debits, negative for credits.
+ */
+public final class LedgerEntry {
+
+    /**
+     * Anomaly injected into a transaction.
+     */
+    public enum Anomaly {
+        /**
+         * Regular transaction: debits equal credits.
+         */
+        NONE,
+        /**
+         * One leg is inflated, so {@link #imbalanceUnscaled()} is non-zero.
+         */
+        UNBALANCED,
+        /**
+         * Repeats the previous transaction, including its id and timestamp.
+         */
+        DUPLICATE,
+        /**
+         * Timestamped before the stream clock, possibly before earlier transactions.
+         */
+        OUT_OF_ORDER
+    }
+
+    private final String[] accountCodes;
+
+    long transactionId;
+    long timestampNanos;
+    Currency currency;
+    int legCount;
+    final int[] accounts;
+    final long[] amounts;
+    Anomaly anomaly;
+
+    LedgerEntry(String[] accountCodes, int maxLegs) {
+        this.accountCodes = accountCodes;
+        this.accounts = new int[maxLegs];
+        this.amounts = new long[maxLegs];
+    }
+
+    /**
+     * Returns the transaction id; ids ascend by one, duplicates repeat the original id.
+     *
+     * @return transaction id
+     */
+    public long transactionId() {
+        return transactionId;
+    }
+
+    /**
+     * Returns the booking time in Unix epoch nanos.
+     *
+     * @return booking time in epoch nanos
+     */
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Returns the currency of all legs.
+     *
+     * @return transaction currency
+     */
+    public Currency currency() {
+        return currency;
+    }
+
+    /**
+     * Returns the number of legs.
+     *
+     * @return number of legs
+     */
+    public int legCount() {
+        return legCount;
+    }
+
+    /**
+     * Returns the account index of a leg, as used by {@link LedgerStream#balanceUnscaled(int)}.
+     *
+     * @param leg leg index
+     * @return account index
+     */
+    public int account(int leg) {
+        return accounts[checkLeg(leg)];
+    }
+
+    /**
+     * Returns the account code of a leg.
+     *
+     * @param leg leg index
+     * @return account code
+     */
+    public String accountCode(int leg) {
+        return accountCodes[accounts[checkLeg(leg)]];
+    }
+
+    /**
+     * Returns the signed amount of a leg in minor units: positive for debits, negative for credits.
+     *
+     * @param leg leg index
+     * @return signed unscaled amount
+     */
+    public long amountUnscaled(int leg) {
+        return amounts[checkLeg(leg)];
+    }
+
+    /**
+     * Returns debits minus credits in minor units; zero unless the transaction is unbalanced.
+     *
+     * @return imbalance
+     */
+    public long imbalanceUnscaled() {
+        long sum = 0;
+        for (int i = 0; i < legCount; i++) {
+            sum += amounts[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the injected anomaly, {@link Anomaly#NONE} for regular transactions.
+     *
+     * @return anomaly
+     */
+    public Anomaly anomaly() {
+        return anomaly;
+    }
+
+    private int checkLeg(int leg) {
+        if (leg < 0 || leg >= legCount) {
+            throw new IndexOutOfBoundsException("leg " + leg + " out of bounds for " + legCount + " legs");
+        }
+        return leg;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LedgerEntry[#").append(transactionId)
+                .append(" @").append(timestampNanos).append(' ').append(currency.getCurrencyCode());
+        for (int i = 0; i < legCount; i++) {
+            sb.append(' ').append(accountCodes[accounts[i]]).append('=').append(amounts[i]);
+        }
+        if (anomaly != Anomaly.NONE) sb.append(' ').append(anomaly);
+        return sb.append(']').toString();
+    }
+}
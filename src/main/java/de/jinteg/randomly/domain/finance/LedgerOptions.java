@@ -0,0 +1,290 @@
+package de.jinteg.randomly.domain.finance;
+
+import java.util.Collection;
+import java.util.Currency;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Chart size, currencies, amounts, arrival rate and anomaly rates of a {@link LedgerStream}.
+ * <p>
+ * Amounts are unscaled values in minor units of the transaction currency. Anomaly rates are
+ * probabilities per transaction; their sum must not exceed 1. Instances are immutable.
+ *
+ * @see FinanceRandomly#ledger(LedgerOptions)
+ */
+public final class LedgerOptions {
+
+    private final int accounts;
+    private final List<Currency> currencies;
+    private final int maxLegs;
+    private final long minAmountUnscaled;
+    private final long maxAmountUnscaled;
+    private final double transactionsPerSecond;
+    private final double unbalancedRate;
+    private final double duplicateRate;
+    private final double outOfOrderRate;
+
+    private LedgerOptions(Builder builder) {
+        this.accounts = builder.accounts;
+        this.currencies = builder.currencies;
+        this.maxLegs = builder.maxLegs;
+        this.minAmountUnscaled = builder.minAmountUnscaled;
+        this.maxAmountUnscaled = builder.maxAmountUnscaled;
+        this.transactionsPerSecond = builder.transactionsPerSecond;
+        this.unbalancedRate = builder.unbalancedRate;
+        this.duplicateRate = builder.duplicateRate;
+        this.outOfOrderRate = builder.outOfOrderRate;
+    }
+
+    /**
+     * Returns the default options: 100 EUR accounts, up to 4 legs, leg amounts from 1.00 to
+     * 10,000.00, 10 transactions per second and no anomalies.
+     *
+     * @return default options
+     */
+    public static LedgerOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a new builder, initialized with the {@link #defaults() defaults}.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of accounts in the chart.
+     *
+     * @return number of accounts
+     */
+    public int accounts() {
+        return accounts;
+    }
+
+    /**
+     * Returns the account currencies; accounts are assigned to them round-robin.
+     *
+     * @return account currencies
+     */
+    public List<Currency> currencies() {
+        return currencies;
+    }
+
+    /**
+     * Returns the maximum number of legs per transaction.
+     *
+     * @return maximum legs
+     */
+    public int maxLegs() {
+        return maxLegs;
+    }
+
+    /**
+     * Returns the lower bound of a debit leg in minor units (inclusive).
+     *
+     * @return minimum debit amount
+     */
+    public long minAmountUnscaled() {
+        return minAmountUnscaled;
+    }
+
+    /**
+     * Returns the upper bound of a debit leg in minor units (inclusive).
+     *
+     * @return maximum debit amount
+     */
+    public long maxAmountUnscaled() {
+        return maxAmountUnscaled;
+    }
+
+    /**
+     * Returns the mean transaction rate.
+     *
+     * @return transactions per second
+     */
+    public double transactionsPerSecond() {
+        return transactionsPerSecond;
+    }
+
+    /**
+     * Returns the probability that a transaction's debits and credits differ.
+     *
+     * @return unbalanced rate
+     */
+    public double unbalancedRate() {
+        return unbalancedRate;
+    }
+
+    /**
+     * Returns the probability that the previous transaction is emitted again.
+     *
+     * @return duplicate rate
+     */
+    public double duplicateRate() {
+        return duplicateRate;
+    }
+
+    /**
+     * Returns the probability that a transaction is timestamped before its predecessor.
+     *
+     * @return out-of-order rate
+     */
+    public double outOfOrderRate() {
+        return outOfOrderRate;
+    }
+
+    /**
+     * Builder for {@link LedgerOptions}.
+     */
+    public static final class Builder {
+        private int accounts = 100;
+        private List<Currency> currencies = List.of(Currency.getInstance("EUR"));
+        private int maxLegs = 4;
+        private long minAmountUnscaled = 100;
+        private long maxAmountUnscaled = 1_000_000;
+        private double transactionsPerSecond = 10;
+        private double unbalancedRate;
+        private double duplicateRate;
+        private double outOfOrderRate;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of accounts in the chart.
+         *
+         * @param accounts number of accounts (at least two per currency)
+         * @return this builder
+         */
+        public Builder withAccounts(int accounts) {
+            this.accounts = accounts;
+            return this;
+        }
+
+        /**
+         * Sets the account currencies. Each transaction posts in a single currency.
+         *
+         * @param currencies distinct account currencies
+         * @return this builder
+         */
+        public Builder withCurrencies(Collection<Currency> currencies) {
+            Objects.requireNonNull(currencies, "currencies");
+            this.currencies = List.copyOf(currencies);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of legs per transaction; each transaction has at least two.
+         *
+         * @param maxLegs maximum legs (&ge; 2)
+         * @return this builder
+         */
+        public Builder withMaxLegs(int maxLegs) {
+            this.maxLegs = maxLegs;
+            return this;
+        }
+
+        /**
+         * Sets the range of each debit leg in minor units; credit legs split the debit total.
+         *
+         * @param minUnscaled lower bound (inclusive, at least {@code maxLegs - 1})
+         * @param maxUnscaled upper bound (inclusive)
+         * @return this builder
+         */
+        public Builder withAmountRange(long minUnscaled, long maxUnscaled) {
+            this.minAmountUnscaled = minUnscaled;
+            this.maxAmountUnscaled = maxUnscaled;
+            return this;
+        }
+
+        /**
+         * Sets the mean transaction rate; arrivals are Poisson.
+         *
+         * @param transactionsPerSecond transactions per second (&gt; 0)
+         * @return this builder
+         */
+        public Builder withTransactionsPerSecond(double transactionsPerSecond) {
+            this.transactionsPerSecond = transactionsPerSecond;
+            return this;
+        }
+
+        /**
+         * Sets the probability that one leg of a transaction is inflated, so debits and credits differ.
+         *
+         * @param rate probability in [0, 1]
+         * @return this builder
+         */
+        public Builder withUnbalancedRate(double rate) {
+            this.unbalancedRate = rate;
+            return this;
+        }
+
+        /**
+         * Sets the probability that the previous transaction is emitted again, unchanged.
+         *
+         * @param rate probability in [0, 1]
+         * @return this builder
+         */
+        public Builder withDuplicateRate(double rate) {
+            this.duplicateRate = rate;
+            return this;
+        }
+
+        /**
+         * Sets the probability that a transaction is timestamped up to a minute before the
+         * stream clock, and therefore possibly before its predecessors.
+         *
+         * @param rate probability in [0, 1]
+         * @return this builder
+         */
+        public Builder withOutOfOrderRate(double rate) {
+            this.outOfOrderRate = rate;
+            return this;
+        }
+
+        /**
+         * Validates the settings and builds the options.
+         *
+         * @return ledger options
+         * @throws IllegalArgumentException if a setting is out of range
+         */
+        public LedgerOptions build() {
+            if (currencies.isEmpty()) throw new IllegalArgumentException("currencies must not be empty");
+            if (Set.copyOf(currencies).size() != currencies.size()) {
+                throw new IllegalArgumentException("currencies must be distinct");
+            }
+            if (accounts < 2L * currencies.size()) {
+                throw new IllegalArgumentException("accounts must be at least 2 per currency");
+            }
+            if (maxLegs < 2) throw new IllegalArgumentException("maxLegs must be >= 2");
+            if (minAmountUnscaled < Math.max(1, maxLegs - 1)) {
+                throw new IllegalArgumentException("minAmountUnscaled must be >= max(1, maxLegs - 1)");
+            }
+            if (maxAmountUnscaled < minAmountUnscaled) {
+                throw new IllegalArgumentException("maxAmountUnscaled must be >= minAmountUnscaled");
+            }
+            if (maxAmountUnscaled > Long.MAX_VALUE / 4 / maxLegs) {
+                throw new IllegalArgumentException("maxAmountUnscaled is too large");
+            }
+            if (!(transactionsPerSecond > 0) || Double.isInfinite(transactionsPerSecond)) {
+                throw new IllegalArgumentException("transactionsPerSecond must be > 0 and finite");
+            }
+            requireRate(unbalancedRate, "unbalancedRate");
+            requireRate(duplicateRate, "duplicateRate");
+            requireRate(outOfOrderRate, "outOfOrderRate");
+            if (unbalancedRate + duplicateRate + outOfOrderRate > 1) {
+                throw new IllegalArgumentException("anomaly rates must not sum to more than 1");
+            }
+            return new LedgerOptions(this);
+        }
+
+        private static void requireRate(double rate, String name) {
+            if (!(rate >= 0 && rate <= 1)) throw new IllegalArgumentException(name + " must be in [0, 1]");
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package de.jinteg.randomly.domain.finance;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Endless, lazily generated stream of double-entry transactions.
+ * <p>
+ * Accounts form a generated chart whose codes start with their class digit (1 assets,
+ * 2 liabilities, 3 equity, 4 revenue, 5 expenses); they are assigned to the configured
+ * currencies round-robin. Each transaction posts two or more legs to distinct accounts of one
+ * currency, with debits summing to credits unless an anomaly is injected. Running balances of
+ * every emitted leg, anomalies included, are kept in a primitive array. Arrivals are Poisson,
+ * starting at the instance's {@code runStartTime}. Memory is bounded by the chart size and
+ * the maximum leg count; one {@link LedgerEntry} is reused for all transactions. Not thread-safe.
+ */
+public final class LedgerStream {
+
+    private static final int ACCOUNT_CLASSES = 5;
+    private static final long MAX_OUT_OF_ORDER_NANOS = 60_000_000_000L;
+
+    private final LedgerOptions options;
+    private final RandomGenerator rng;
+    private final String[] accountCodes;
+    private final Currency[] currencies;
+    private final int[][] accountsByCurrency;
+    private final long[] balances;
+    private final double meanGapNanos;
+
+    private final LedgerEntry entry;
+    private final int[] previousAccounts;
+    private final long[] previousAmounts;
+    private int previousLegCount;
+    private int previousCurrency;
+    private long previousTimestampNanos;
+
+    private long clockNanos;
+    private long nextTransactionId = 1;
+
+    LedgerStream(LedgerOptions options, RandomGenerator rng, long startNanos) {
+        this.options = options;
+        this.rng = rng;
+        this.clockNanos = startNanos;
+        this.meanGapNanos = 1e9 / options.transactionsPerSecond();
+
+        int n = options.accounts();
+        List<Currency> currencyList = options.currencies();
+        this.currencies = currencyList.toArray(new Currency[0]);
+        this.accountCodes = new String[n];
+        this.balances = new long[n];
+        this.accountsByCurrency = new int[currencies.length][];
+        for (int c = 0; c < currencies.length; c++) {
+            accountsByCurrency[c] = new int[(n - c + currencies.length - 1) / currencies.length];
+        }
+        for (int i = 0; i < n; i++) {
+            accountCodes[i] = (i % ACCOUNT_CLASSES + 1) + String.format("%04d", i / ACCOUNT_CLASSES);
+            accountsByCurrency[i % currencies.length][i / currencies.length] = i;
+        }
+
+        this.entry = new LedgerEntry(accountCodes, options.maxLegs());
+        this.previousAccounts = new int[options.maxLegs()];
+        this.previousAmounts = new long[options.maxLegs()];
+    }
+
+    /**
+     * Generates the next transaction into the shared {@link LedgerEntry}, updates the running
+     * balances and returns it.
+     *
+     * @return the reused entry, overwritten by the next call
+     */
+    public LedgerEntry next() {
+        LedgerEntry e = entry;
+        double u = rng.nextDouble();
+        double duplicateBound = options.duplicateRate();
+        double unbalancedBound = duplicateBound + options.unbalancedRate();
+        double outOfOrderBound = unbalancedBound + options.outOfOrderRate();
+
+        if (u < duplicateBound && previousLegCount > 0) {
+            // transactionId was not advanced since the previous entry was generated
+            e.transactionId = nextTransactionId - 1;
+            e.timestampNanos = previousTimestampNanos;
+            e.currency = currencies[previousCurrency];
+            e.legCount = previousLegCount;
+            System.arraycopy(previousAccounts, 0, e.accounts, 0, previousLegCount);
+            System.arraycopy(previousAmounts, 0, e.amounts, 0, previousLegCount);
+            e.anomaly = LedgerEntry.Anomaly.DUPLICATE;
+        } else {
+            clockNanos += (long) (rng.nextExponential() * meanGapNanos);
+            int currency = rng.nextInt(currencies.length);
+            e.transactionId = nextTransactionId++;
+            e.timestampNanos = clockNanos;
+            e.currency = currencies[currency];
+            e.anomaly = LedgerEntry.Anomaly.NONE;
+            generateLegs(e, accountsByCurrency[currency]);
+
+            if (u >= duplicateBound && u < unbalancedBound) {
+                int leg = rng.nextInt(e.legCount);
+                long amount = e.amounts[leg];
+                long delta = 1 + rng.nextLong(Math.max(1, Math.abs(amount) / 10));
+                e.amounts[leg] = amount + (amount > 0 ? delta : -delta);
+                e.anomaly = LedgerEntry.Anomaly.UNBALANCED;
+            } else if (u >= unbalancedBound && u < outOfOrderBound) {
+                e.timestampNanos = clockNanos - 1 - rng.nextLong(MAX_OUT_OF_ORDER_NANOS);
+                e.anomaly = LedgerEntry.Anomaly.OUT_OF_ORDER;
+            }
+
+            previousLegCount = e.legCount;
+            previousCurrency = currency;
+            previousTimestampNanos = e.timestampNanos;
+            System.arraycopy(e.accounts, 0, previousAccounts, 0, e.legCount);
+            System.arraycopy(e.amounts, 0, previousAmounts, 0, e.legCount);
+        }
+
+        for (int i = 0; i < e.legCount; i++) {
+            balances[e.accounts[i]] += e.amounts[i];
+        }
+        return e;
+    }
+
+    /**
+     * Returns the number of accounts in the chart.
+     *
+     * @return number of accounts
+     */
+    public int accountCount() {
+        return accountCodes.length;
+    }
+
+    /**
+     * Returns the code of an account.
+     *
+     * @param account account index
+     * @return account code
+     */
+    public String accountCode(int account) {
+        return accountCodes[account];
+    }
+
+    /**
+     * Returns the currency of an account.
+     *
+     * @param account account index
+     * @return account currency
+     */
+    public Currency accountCurrency(int account) {
+        return currencies[account % currencies.length];
+    }
+
+    /**
+     * Returns the running balance of an account in minor units: debits minus credits of all
+     * legs emitted so far, including anomalous ones.
+     *
+     * @param account account index
+     * @return running balance
+     */
+    public long balanceUnscaled(int account) {
+        return balances[account];
+    }
+
+    /**
+     * Copies the running balances of all accounts into {@code dst}.
+     *
+     * @param dst destination with at least {@link #accountCount()} elements
+     */
+    public void copyBalances(long[] dst) {
+        System.arraycopy(balances, 0, dst, 0, balances.length);
+    }
+
+    private void generateLegs(LedgerEntry e, int[] group) {
+        int legs = Math.min(2 + rng.nextInt(options.maxLegs() - 1), group.length);
+        int debits = 1 + rng.nextInt(legs - 1);
+        int credits = legs - debits;
+        e.legCount = legs;
+
+        for (int i = 0; i < legs; i++) {
+            int account;
+            do {
+                account = group[rng.nextInt(group.length)];
+            } while (contains(e.accounts, i, account));
+            e.accounts[i] = account;
+        }
+
+        long min = options.minAmountUnscaled();
+        long max = options.maxAmountUnscaled();
+        long total = 0;
+        for (int i = 0; i < debits; i++) {
+            long amount = rng.nextLong(min, max + 1);
+            e.amounts[i] = amount;
+            total += amount;
+        }
+
+        // split the debit total into positive credits: sorted cut points over [0, total - credits]
+        long[] amounts = e.amounts;
+        for (int i = debits; i < legs - 1; i++) {
+            long cut = rng.nextLong(total - credits + 1);
+            int j = i;
+            while (j > debits && amounts[j - 1] > cut) {
+                amounts[j] = amounts[j - 1];
+                j--;
+            }
+            amounts[j] = cut;
+        }
+        long previousCut = 0;
+        for (int i = debits; i < legs - 1; i++) {
+            long cut = amounts[i];
+            amounts[i] = -(cut - previousCut + 1);
+            previousCut = cut;
+        }
+        amounts[legs - 1] = -(total - credits - previousCut + 1);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+}
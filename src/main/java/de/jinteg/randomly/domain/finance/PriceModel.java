@@ -0,0 +1,115 @@
+package de.jinteg.randomly.domain.finance;
+
+/**
+ * Stochastic model for {@link FinanceRandomly#pricePath(StockEntry, int, PriceModel)}.
+ * <p>
+ * Drift, volatility and jump intensity are annualized; {@code dt} is the step length in
+ * years, e.g. {@code 1.0 / 252} for trading days.
+ */
+public sealed interface PriceModel {
+
+    /**
+     * Trading days per year, used by the factory methods for daily steps.
+     */
+    double TRADING_DAYS_PER_YEAR = 252;
+
+    /**
+     * Returns the step length in years.
+     *
+     * @return step length in years
+     */
+    double dt();
+
+    /**
+     * Geometric Brownian motion.
+     *
+     * @param drift      annualized drift (mu)
+     * @param volatility annualized volatility (sigma, &gt;= 0)
+     * @param dt         step length in years (&gt; 0)
+     */
+    record Gbm(double drift, double volatility, double dt) implements PriceModel {
+
+        /**
+         * Validates the parameters.
+         *
+         * @throws IllegalArgumentException if a parameter is out of range
+         */
+        public Gbm {
+            requireFinite(drift, "drift");
+            requireNonNegative(volatility, "volatility");
+            requirePositive(dt, "dt");
+        }
+    }
+
+    /**
+     * Merton jump diffusion: geometric Brownian motion plus Poisson-distributed jumps with
+     * normally distributed log sizes. The drift is compensated so {@code drift} remains the
+     * expected growth rate.
+     *
+     * @param drift         annualized drift (mu)
+     * @param volatility    annualized diffusion volatility (sigma, &gt;= 0)
+     * @param jumpIntensity expected jumps per year (lambda, &gt;= 0)
+     * @param jumpMean      mean of the log jump size
+     * @param jumpStdDev    standard deviation of the log jump size (&gt;= 0)
+     * @param dt            step length in years (&gt; 0)
+     */
+    record Merton(double drift, double volatility, double jumpIntensity, double jumpMean, double jumpStdDev,
+                  double dt) implements PriceModel {
+
+        /**
+         * Validates the parameters.
+         *
+         * @throws IllegalArgumentException if a parameter is out of range
+         */
+        public Merton {
+            requireFinite(drift, "drift");
+            requireNonNegative(volatility, "volatility");
+            requireNonNegative(jumpIntensity, "jumpIntensity");
+            requireFinite(jumpMean, "jumpMean");
+            requireNonNegative(jumpStdDev, "jumpStdDev");
+            requirePositive(dt, "dt");
+        }
+    }
+
+    /**
+     * Returns a geometric Brownian motion model with daily steps.
+     *
+     * @param drift      annualized drift
+     * @param volatility annualized volatility
+     * @return GBM model
+     */
+    static PriceModel gbm(double drift, double volatility) {
+        return new Gbm(drift, volatility, 1 / TRADING_DAYS_PER_YEAR);
+    }
+
+    /**
+     * Returns a Merton jump-diffusion model with daily steps.
+     *
+     * @param drift         annualized drift
+     * @param volatility    annualized diffusion volatility
+     * @param jumpIntensity expected jumps per year
+     * @param jumpMean      mean of the log jump size
+     * @param jumpStdDev    standard deviation of the log jump size
+     * @return Merton model
+     */
+    static PriceModel merton(double drift, double volatility, double jumpIntensity, double jumpMean,
+                             double jumpStdDev) {
+        return new Merton(drift, volatility, jumpIntensity, jumpMean, jumpStdDev, 1 / TRADING_DAYS_PER_YEAR);
+    }
+
+    private static void requireFinite(double value, String name) {
+        if (!Double.isFinite(value)) throw new IllegalArgumentException(name + " must be finite");
+    }
+
+    private static void requireNonNegative(double value, String name) {
+        if (!(value >= 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " must be >= 0 and finite");
+        }
+    }
+
+    private static void requirePositive(double value, String name) {
+        if (!(value > 0) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException(name + " must be > 0 and finite");
+        }
+    }
+}
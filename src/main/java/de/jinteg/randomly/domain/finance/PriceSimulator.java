@@ -0,0 +1,175 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.internal.SplitMix64;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Log-space simulation of {@link PriceModel} paths into primitive arrays.
+ * <p>
+ * Gaussians are drawn in bulk from the given generator into a reusable buffer of at most
+ * {@value #BLOCK} values, sized to the Gaussians the path still needs; per step only one
+ * multiply-add and one {@code exp} remain. Jump counts and sizes come from a second generator,
+ * seeded by one draw, so the Gaussian block size never shifts the jump sequence.
+ */
+final class PriceSimulator {
+
+    private static final int BLOCK = 4096;
+
+    private final RandomGenerator rng;
+    private final RandomGenerator jumpRng;
+
+    private final double diffusionDrift;
+    private final double diffusionScale;
+    private final double jumpProbabilityZero;
+    private final double jumpMean;
+    private final double jumpStdDev;
+
+    private double[] gaussians;
+    private int filled;
+    private int next;
+    private long remaining;
+
+    PriceSimulator(PriceModel model, RandomGenerator rng) {
+        this.rng = rng;
+        double dt = model.dt();
+        switch (model) {
+            case PriceModel.Gbm g -> {
+                diffusionDrift = (g.drift() - 0.5 * g.volatility() * g.volatility()) * dt;
+                diffusionScale = g.volatility() * Math.sqrt(dt);
+                jumpProbabilityZero = 1;
+                jumpMean = 0;
+                jumpStdDev = 0;
+                jumpRng = null;
+            }
+            case PriceModel.Merton m -> {
+                double compensation = m.jumpIntensity()
+                        * (Math.exp(m.jumpMean() + 0.5 * m.jumpStdDev() * m.jumpStdDev()) - 1);
+                diffusionDrift = (m.drift() - compensation - 0.5 * m.volatility() * m.volatility()) * dt;
+                diffusionScale = m.volatility() * Math.sqrt(dt);
+                jumpProbabilityZero = Math.exp(-m.jumpIntensity() * dt);
+                jumpMean = m.jumpMean();
+                jumpStdDev = m.jumpStdDev();
+                jumpRng = new SplitMix64(rng.nextLong());
+            }
+        }
+    }
+
+    /**
+     * Fills {@code dst} with a path starting at {@code startPrice}.
+     */
+    void fill(double startPrice, double[] dst) {
+        if (dst.length == 0) return;
+        remaining = dst.length - 1;
+        double logPrice = Math.log(startPrice);
+        dst[0] = startPrice;
+        for (int i = 1; i < dst.length; i++) {
+            logPrice += logReturn(gaussian());
+            dst[i] = Math.exp(logPrice);
+        }
+    }
+
+    /**
+     * Fills {@code dst[asset]} with correlated paths; {@code cholesky} is lower triangular.
+     */
+    void fillCorrelated(double[] startPrices, double[][] cholesky, double[][] dst, int steps) {
+        int n = startPrices.length;
+        double[] logPrices = new double[n];
+        double[] z = new double[n];
+        remaining = (long) steps * n;
+        for (int a = 0; a < n; a++) {
+            logPrices[a] = Math.log(startPrices[a]);
+            dst[a][0] = startPrices[a];
+        }
+        for (int i = 1; i <= steps; i++) {
+            for (int a = 0; a < n; a++) {
+                z[a] = gaussian();
+            }
+            for (int a = 0; a < n; a++) {
+                double[] row = cholesky[a];
+                double w = 0;
+                for (int k = 0; k <= a; k++) {
+                    w += row[k] * z[k];
+                }
+                logPrices[a] += logReturn(w);
+                dst[a][i] = Math.exp(logPrices[a]);
+            }
+        }
+    }
+
+    private double logReturn(double z) {
+        double r = diffusionDrift + diffusionScale * z;
+        if (jumpProbabilityZero < 1) {
+            int jumps = poisson();
+            if (jumps > 0) {
+                r += jumps * jumpMean + Math.sqrt(jumps) * jumpStdDev * jumpRng.nextGaussian();
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Knuth's multiplication method; the mean per step is small, so few iterations are needed.
+     */
+    private int poisson() {
+        int k = 0;
+        double p = jumpRng.nextDouble();
+        while (p > jumpProbabilityZero) {
+            k++;
+            p *= jumpRng.nextDouble();
+        }
+        return k;
+    }
+
+    private double gaussian() {
+        if (next == filled) {
+            int count = (int) Math.min(BLOCK, remaining);
+            if (gaussians == null || gaussians.length < count) {
+                gaussians = new double[count];
+            }
+            for (int i = 0; i < count; i++) {
+                gaussians[i] = rng.nextGaussian();
+            }
+            remaining -= count;
+            filled = count;
+            next = 0;
+        }
+        return gaussians[next++];
+    }
+
+    /**
+     * Returns the lower-triangular Cholesky factor of a correlation matrix.
+     *
+     * @throws IllegalArgumentException if the matrix is not square, symmetric, unit-diagonal and positive definite
+     */
+    static double[][] cholesky(double[][] correlation) {
+        int n = correlation.length;
+        double[][] l = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            if (correlation[i] == null || correlation[i].length != n) {
+                throw new IllegalArgumentException("correlation must be a square matrix");
+            }
+            if (Math.abs(correlation[i][i] - 1) > 1e-9) {
+                throw new IllegalArgumentException("correlation diagonal must be 1");
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                if (Math.abs(correlation[i][j] - correlation[j][i]) > 1e-9) {
+                    throw new IllegalArgumentException("correlation must be symmetric");
+                }
+                double sum = correlation[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[i][k] * l[j][k];
+                }
+                if (i == j) {
+                    if (!(sum > 0)) throw new IllegalArgumentException("correlation must be positive definite");
+                    l[i][i] = Math.sqrt(sum);
+                } else {
+                    l[i][j] = sum / l[j][j];
+                }
+            }
+        }
+        return l;
+    }
+}
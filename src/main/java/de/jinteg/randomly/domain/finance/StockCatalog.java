@@ -0,0 +1,71 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.internal.catalog.CatalogHandle;
+import de.jinteg.randomly.internal.catalog.LocalizedCatalog;
+import de.jinteg.randomly.internal.catalog.RawParserUtil;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stock catalog of one locale, parsed once into {@link StockEntry} objects and parallel columns.
+ */
+final class StockCatalog {
+
+    private static final LocalizedCatalog STOCKS = LocalizedCatalog.of("de/jinteg/randomly/catalog/finance/stocks");
+    private static final Map<Locale, StockCatalog> CACHE = new ConcurrentHashMap<>();
+
+    private final StockEntry[] entries;
+    private final String[] symbols;
+    private final long[] marketCaps;
+    private final double[] prices;
+
+    private StockCatalog(CatalogHandle handle) {
+        int size = handle.size();
+        this.entries = new StockEntry[size];
+        this.symbols = new String[size];
+        this.marketCaps = new long[size];
+        this.prices = new double[size];
+        for (int i = 0; i < size; i++) {
+            StockEntry entry = StockEntry.parse(RawParserUtil.parse(handle.get(i), StockEntry.COLUMN_COUNT));
+            entries[i] = entry;
+            symbols[i] = entry.symbol();
+            marketCaps[i] = entry.marketCap();
+            prices[i] = entry.price();
+        }
+    }
+
+    /**
+     * Returns the parsed catalog for the given locale.
+     *
+     * @param locale locale to use for catalog selection
+     * @return parsed catalog
+     */
+    static StockCatalog forLocale(Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+        StockCatalog catalog = CACHE.get(locale);
+        return catalog != null ? catalog : CACHE.computeIfAbsent(locale, l -> new StockCatalog(STOCKS.handle(l)));
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    StockEntry entry(int index) {
+        return entries[index];
+    }
+
+    String symbol(int index) {
+        return symbols[index];
+    }
+
+    long marketCap(int index) {
+        return marketCaps[index];
+    }
+
+    double price(int index) {
+        return prices[index];
+    }
+}
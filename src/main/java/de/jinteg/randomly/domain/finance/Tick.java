@@ -0,0 +1,164 @@
+package de.jinteg.randomly.domain.finance;
+
+/**
+ * Mutable market-data event produced by {@link TickStream}.
+ * <p>
+ * A stream reuses one instance and overwrites it on every {@link TickStream#next()}; copy the
+ * values you need to keep. Bid and ask always describe the symbol's top of book after the event.
+ */
+public final class Tick {
+
+    /**
+     * Kind of market-data event.
+     */
+    public enum Type {
+        /**
+         * Executed trade: {@link #price()}, {@link #size()} and aggressor {@link #side()}.
+         */
+        TRADE,
+        /**
+         * Top-of-book update: bid/ask prices and sizes.
+         */
+        QUOTE,
+        /**
+         * Order-book level update: {@link #side()}, {@link #level()}, {@link #price()} and
+         * {@link #size()}; size 0 removes the level.
+         */
+        BOOK_DELTA
+    }
+
+    /**
+     * Order side.
+     */
+    public enum Side {
+        /**
+         * Buy side (bid).
+         */
+        BUY,
+        /**
+         * Sell side (ask).
+         */
+        SELL
+    }
+
+    Type type;
+    String symbol;
+    long timestampNanos;
+    Side side;
+    int level;
+    double price;
+    long size;
+    double bidPrice;
+    long bidSize;
+    double askPrice;
+    long askSize;
+
+    Tick() {
+    }
+
+    /**
+     * Returns the event type.
+     *
+     * @return event type
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the stock symbol.
+     *
+     * @return stock symbol
+     */
+    public String symbol() {
+        return symbol;
+    }
+
+    /**
+     * Returns the event time in Unix epoch nanos.
+     *
+     * @return event time in epoch nanos
+     */
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Returns the aggressor side of a trade or the book side of a delta; {@code null} for quotes.
+     *
+     * @return side or {@code null}
+     */
+    public Side side() {
+        return side;
+    }
+
+    /**
+     * Returns the zero-based book level of a delta; 0 for other types.
+     *
+     * @return book level
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Returns the trade or level price; {@code NaN} for quotes.
+     *
+     * @return price
+     */
+    public double price() {
+        return price;
+    }
+
+    /**
+     * Returns the trade or level size; 0 for quotes.
+     *
+     * @return size
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the best bid price.
+     *
+     * @return best bid price
+     */
+    public double bidPrice() {
+        return bidPrice;
+    }
+
+    /**
+     * Returns the size at the best bid.
+     *
+     * @return best bid size
+     */
+    public long bidSize() {
+        return bidSize;
+    }
+
+    /**
+     * Returns the best ask price.
+     *
+     * @return best ask price
+     */
+    public double askPrice() {
+        return askPrice;
+    }
+
+    /**
+     * Returns the size at the best ask.
+     *
+     * @return best ask size
+     */
+    public long askSize() {
+        return askSize;
+    }
+
+    @Override
+    public String toString() {
+        return "Tick[" + type + " " + symbol + " @" + timestampNanos
+                + (type == Type.QUOTE ? "" : " " + side + " L" + level + " " + size + "x" + price)
+                + " bid=" + bidSize + "x" + bidPrice + " ask=" + askSize + "x" + askPrice + "]";
+    }
+}
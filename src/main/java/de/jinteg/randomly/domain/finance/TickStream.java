@@ -0,0 +1,159 @@
+package de.jinteg.randomly.domain.finance;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Endless, lazily generated stream of trades, quotes and order-book deltas.
+ * <p>
+ * Symbols are picked in proportion to their market cap. Each symbol's mid price follows a
+ * per-tick log random walk starting at its catalog price; spreads and sizes are log-normal,
+ * prices are rounded to cents. Arrivals are Poisson with the configured rate, starting at the
+ * instance's {@code runStartTime}. One {@link Tick} is reused for all events, so generating a
+ * tick allocates nothing. Not thread-safe.
+ */
+public final class TickStream {
+
+    private static final double PRICE_INCREMENT = 0.01;
+    private static final double MID_VOLATILITY = 0.0002;
+    private static final double MEDIAN_HALF_SPREAD = 0.0002;
+    private static final double SPREAD_DISPERSION = 0.5;
+    private static final double MEDIAN_SIZE = 100;
+    private static final double SIZE_DISPERSION = 1.0;
+    private static final double TRADE_SHARE = 0.1;
+    private static final double QUOTE_SHARE = 0.6;
+    private static final int BOOK_LEVELS = 10;
+    private static final double LEVEL_REMOVAL_SHARE = 0.2;
+
+    private final String[] symbols;
+    private final double[] cumulativeWeights;
+    private final double[] mids;
+    private final double[] bids;
+    private final double[] asks;
+    private final long[] bidSizes;
+    private final long[] askSizes;
+    private final RandomGenerator rng;
+    private final double meanGapNanos;
+    private final double logMedianSize = Math.log(MEDIAN_SIZE);
+    private final double logMedianHalfSpread = Math.log(MEDIAN_HALF_SPREAD);
+
+    private final Tick tick = new Tick();
+    private long timestampNanos;
+
+    TickStream(StockCatalog catalog, RandomGenerator rng, long startNanos, double ticksPerSecond) {
+        int n = catalog.size();
+        this.symbols = new String[n];
+        this.cumulativeWeights = new double[n];
+        this.mids = new double[n];
+        this.bids = new double[n];
+        this.asks = new double[n];
+        this.bidSizes = new long[n];
+        this.askSizes = new long[n];
+        this.rng = rng;
+        this.meanGapNanos = 1e9 / ticksPerSecond;
+        this.timestampNanos = startNanos;
+
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            symbols[i] = catalog.symbol(i);
+            total += Math.max(1, catalog.marketCap(i));
+            cumulativeWeights[i] = total;
+            mids[i] = Math.max(catalog.price(i), PRICE_INCREMENT);
+            requote(i);
+        }
+    }
+
+    /**
+     * Generates the next event into the shared {@link Tick} and returns it.
+     *
+     * @return the reused tick, overwritten by the next call
+     */
+    public Tick next() {
+        timestampNanos += (long) (rng.nextExponential() * meanGapNanos);
+        int s = pickSymbol();
+
+        Tick t = tick;
+        t.symbol = symbols[s];
+        t.timestampNanos = timestampNanos;
+        t.level = 0;
+
+        double u = rng.nextDouble();
+        if (u < TRADE_SHARE) {
+            Tick.Side side = rng.nextBoolean() ? Tick.Side.BUY : Tick.Side.SELL;
+            t.type = Tick.Type.TRADE;
+            t.side = side;
+            t.price = side == Tick.Side.BUY ? asks[s] : bids[s];
+            t.size = logNormalSize();
+        } else if (u < TRADE_SHARE + QUOTE_SHARE) {
+            mids[s] *= Math.exp(MID_VOLATILITY * rng.nextGaussian());
+            requote(s);
+            t.type = Tick.Type.QUOTE;
+            t.side = null;
+            t.price = Double.NaN;
+            t.size = 0;
+        } else {
+            Tick.Side side = rng.nextBoolean() ? Tick.Side.BUY : Tick.Side.SELL;
+            int level = Math.min(BOOK_LEVELS - 1, (int) (rng.nextExponential() * 2));
+            t.type = Tick.Type.BOOK_DELTA;
+            t.side = side;
+            t.level = level;
+            t.price = side == Tick.Side.BUY
+                    ? roundToIncrement(Math.max(PRICE_INCREMENT, bids[s] - level * PRICE_INCREMENT))
+                    : roundToIncrement(asks[s] + level * PRICE_INCREMENT);
+            t.size = level > 0 && rng.nextDouble() < LEVEL_REMOVAL_SHARE ? 0 : logNormalSize();
+            if (level == 0) {
+                if (side == Tick.Side.BUY) bidSizes[s] = t.size;
+                else askSizes[s] = t.size;
+            }
+        }
+        t.bidPrice = bids[s];
+        t.bidSize = bidSizes[s];
+        t.askPrice = asks[s];
+        t.askSize = askSizes[s];
+        return t;
+    }
+
+    /**
+     * Returns the timestamp of the last generated event in epoch nanos, or the start time if none.
+     *
+     * @return last timestamp in epoch nanos
+     */
+    public long timestampNanos() {
+        return timestampNanos;
+    }
+
+    private int pickSymbol() {
+        double target = rng.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int lo = 0;
+        int hi = cumulativeWeights.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulativeWeights[mid] <= target) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void requote(int s) {
+        double mid = mids[s];
+        double halfSpread = Math.max(PRICE_INCREMENT / 2,
+                mid * Math.exp(logMedianHalfSpread + SPREAD_DISPERSION * rng.nextGaussian()));
+        double bid = Math.max(PRICE_INCREMENT, Math.floor((mid - halfSpread) / PRICE_INCREMENT) * PRICE_INCREMENT);
+        double ask = Math.ceil((mid + halfSpread) / PRICE_INCREMENT) * PRICE_INCREMENT;
+        if (ask - bid < PRICE_INCREMENT / 2) ask = bid + PRICE_INCREMENT;
+        bids[s] = roundToIncrement(bid);
+        asks[s] = roundToIncrement(ask);
+        bidSizes[s] = logNormalSize();
+        askSizes[s] = logNormalSize();
+    }
+
+    private long logNormalSize() {
+        return Math.max(1L, Math.round(Math.exp(logMedianSize + SIZE_DISPERSION * rng.nextGaussian())));
+    }
+
+    private static double roundToIncrement(double price) {
+        return Math.round(price * 100) / 100.0;
+    }
+}
@@ -0,0 +1,32 @@
+package de.jinteg.randomly.internal;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Small, fast SplitMix64 generator for lazily consumed substreams.
+ * <p>
+ * Lazy streams must not draw from the owning {@code JRandomly} while they are consumed,
+ * otherwise interleaved calls would change each other's values. Instead, a stream takes one
+ * seed up front and draws from its own {@code SplitMix64}. Not thread-safe.
+ */
+public final class SplitMix64 implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed seed
+     */
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return SeedDerivation.mix64(state);
+    }
+}
@@ -0,0 +1,160 @@
+package de.jinteg.randomly.internal.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Resolved, immutable view of a numbered properties catalog for a single locale.
+ * <p>
+ * Handles are obtained once via {@link LocalizedCatalog#handle(Locale)} and keep the
+ * entries in an array, so picking an entry is an index draw plus an array load.
+ * Lower-case, capitalized and kebab-case variants are computed with the catalog locale
+ * on first use of each variant, so catalogs that never need them do not pay for them.
+ */
+public final class CatalogHandle {
+
+    private final List<String> entries;
+    private final String[] values;
+    private final Locale locale;
+    private volatile String[] lowerCase;
+    private volatile String[] capitalized;
+    private volatile String[] kebabCase;
+    private volatile byte[][] utf8;
+
+    CatalogHandle(List<String> entries, Locale locale) {
+        this.entries = List.copyOf(entries);
+        this.values = this.entries.toArray(String[]::new);
+        this.locale = locale;
+    }
+
+    /**
+     * Returns the number of entries in this catalog.
+     *
+     * @return number of entries (always &gt; 0)
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the entry at the given index.
+     *
+     * @param index index in the range [0, size())
+     * @return catalog entry
+     */
+    public String get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the entry at the given index, lower-cased with the catalog locale.
+     *
+     * @param index index in the range [0, size())
+     * @return lower-case entry
+     */
+    public String lowerCase(int index) {
+        return lowerCase()[index];
+    }
+
+    /**
+     * Returns the entry at the given index with its first character in upper case.
+     *
+     * @param index index in the range [0, size())
+     * @return capitalized entry
+     */
+    public String capitalized(int index) {
+        String[] variants = capitalized;
+        if (variants == null) {
+            variants = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                variants[i] = capitalize(values[i]);
+            }
+            capitalized = variants;
+        }
+        return variants[index];
+    }
+
+    /**
+     * Returns the entry at the given index in kebab-case: lower-cased with the catalog locale,
+     * whitespace and underscores replaced by a single {@code '-'}.
+     *
+     * @param index index in the range [0, size())
+     * @return kebab-case entry
+     */
+    public String kebabCase(int index) {
+        String[] variants = kebabCase;
+        if (variants == null) {
+            String[] lower = lowerCase();
+            variants = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                variants[i] = toKebabCase(lower[i]);
+            }
+            kebabCase = variants;
+        }
+        return variants[index];
+    }
+
+    /**
+     * Returns all entries in catalog order.
+     *
+     * @return unmodifiable list of entries
+     */
+    public List<String> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the entry at the given index.
+     * Encodings are computed once on first use and shared afterwards.
+     *
+     * @param index index in the range [0, size())
+     * @return UTF-8 bytes of the entry; must not be modified
+     */
+    public byte[] utf8(int index) {
+        byte[][] encoded = utf8;
+        if (encoded == null) {
+            encoded = new byte[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+            }
+            utf8 = encoded;
+        }
+        return encoded[index];
+    }
+
+    private String[] lowerCase() {
+        String[] variants = lowerCase;
+        if (variants == null) {
+            variants = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                variants[i] = values[i].toLowerCase(locale);
+            }
+            lowerCase = variants;
+        }
+        return variants;
+    }
+
+    private static String capitalize(String s) {
+        if (s.isEmpty()) return s;
+        return Character.toUpperCase(s.charAt(0)) + s.substring(1);
+    }
+
+    private static String toKebabCase(String lower) {
+        StringBuilder sb = new StringBuilder(lower.length());
+        boolean pendingDash = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isWhitespace(c) || c == '_') {
+                pendingDash = !sb.isEmpty();
+            } else {
+                if (pendingDash) {
+                    sb.append('-');
+                    pendingDash = false;
+                }
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
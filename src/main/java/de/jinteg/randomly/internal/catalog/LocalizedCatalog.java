@@ -0,0 +1,50 @@
+package de.jinteg.randomly.internal.catalog;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A numbered properties catalog family (one base path, many locales).
+ * <p>
+ * Intended to be held in a {@code static final} field per catalog. Resolved
+ * {@link CatalogHandle}s are cached per {@link Locale}, so repeated lookups do not build
+ * resource paths or cache keys.
+ */
+public final class LocalizedCatalog {
+
+    private final String basePathWithoutSuffix;
+    private final ConcurrentHashMap<Locale, CatalogHandle> handles = new ConcurrentHashMap<>();
+
+    private LocalizedCatalog(String basePathWithoutSuffix) {
+        this.basePathWithoutSuffix = basePathWithoutSuffix;
+    }
+
+    /**
+     * Creates a catalog family for the given base path. No resources are loaded until the first
+     * call to {@link #handle(Locale)}.
+     *
+     * @param basePathWithoutSuffix base path without locale suffix and file extension
+     * @return catalog family
+     */
+    public static LocalizedCatalog of(String basePathWithoutSuffix) {
+        return new LocalizedCatalog(Objects.requireNonNull(basePathWithoutSuffix, "basePathWithoutSuffix"));
+    }
+
+    /**
+     * Returns the resolved catalog for the given locale, loading it on first access.
+     *
+     * @param locale locale to use for catalog selection
+     * @return resolved catalog handle
+     * @throws IllegalStateException if no catalog exists for the locale
+     */
+    public CatalogHandle handle(Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+        CatalogHandle handle = handles.get(locale);
+        if (handle == null) {
+            handle = handles.computeIfAbsent(locale,
+                    l -> new CatalogHandle(NumberedPropertiesCatalog.loadList(basePathWithoutSuffix, l), l));
+        }
+        return handle;
+    }
+}
@@ -9,6 +9,8 @@ import java.util.function.Supplier;
  * @param <T> type of the value
  */
 public final class Maybe<T> {
+    private static final Maybe<?> ABSENT = new Maybe<>(false, () -> null);
+
     private final boolean present;
     private final Supplier<T> supplier;
 
@@ -34,6 +36,14 @@ public final class Maybe<T> {
         return new Maybe<>(true, () -> value);
     }
 
+    /**
+     * Returns the shared absent instance.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Maybe<T> absent() {
+        return (Maybe<T>) ABSENT;
+    }
+
     /**
      * Returns a Maybe instance with the given value, if non-null.
      *
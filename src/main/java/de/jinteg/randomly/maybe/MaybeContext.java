@@ -1,5 +1,6 @@
 package de.jinteg.randomly.maybe;
 
+import java.util.BitSet;
 import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
@@ -7,6 +8,9 @@ import java.util.random.RandomGenerator;
  * Context for generating Maybe instances with a given probability of absence.
  */
 public final class MaybeContext {
+    private static final double SPARSE_PROBABILITY = 0.125;
+    private static final int PRECISION_BITS = 32;
+
     private final RandomGenerator rng;
     private final double absentProbability;
 
@@ -32,8 +36,7 @@ public final class MaybeContext {
      * @return Maybe instance
      */
     public <T> Maybe<T> value(Supplier<T> supplier) {
-        boolean present = rng.nextDouble() >= absentProbability;
-        return new Maybe<>(present, supplier);
+        return present() ? new Maybe<>(true, supplier) : Maybe.absent();
     }
 
     /**
@@ -44,7 +47,7 @@ public final class MaybeContext {
      * @return Maybe instance
      */
     public <T> Maybe<T> value(T value) {
-        return value(() -> value);
+        return present() ? Maybe.of(value) : Maybe.absent();
     }
 
     /**
@@ -54,8 +57,7 @@ public final class MaybeContext {
      * @return MaybeString instance
      */
     public MaybeString text(Supplier<String> supplier) {
-        boolean present = rng.nextDouble() >= absentProbability;
-        return new MaybeString(present, supplier);
+        return present() ? new MaybeString(true, supplier) : MaybeString.ABSENT;
     }
 
     /**
@@ -65,6 +67,152 @@ public final class MaybeContext {
      * @return MaybeString instance
      */
     public MaybeString text(String value) {
-        return text(() -> value);
+        return present() ? new MaybeString(true, () -> value) : MaybeString.ABSENT;
+    }
+
+    /**
+     * Draws whether a value is present, using the same draw as the other methods of this context.
+     *
+     * @return {@code true} if a value is present
+     */
+    public boolean present() {
+        return rng.nextDouble() >= absentProbability;
+    }
+
+    /**
+     * Returns the given value or {@code null}, without wrapping it.
+     *
+     * @param value value to return if present
+     * @param <T>   type of the value
+     * @return value or {@code null}
+     */
+    public <T> T pick(T value) {
+        return present() ? value : null;
+    }
+
+    /**
+     * Returns the given value or the sentinel, without boxing.
+     *
+     * @param value  value to return if present
+     * @param absent sentinel to return if absent
+     * @return value or sentinel
+     */
+    public int maybeInt(int value, int absent) {
+        return present() ? value : absent;
+    }
+
+    /**
+     * Returns the given value or the sentinel, without boxing.
+     *
+     * @param value  value to return if present
+     * @param absent sentinel to return if absent
+     * @return value or sentinel
+     */
+    public long maybeLong(long value, long absent) {
+        return present() ? value : absent;
+    }
+
+    /**
+     * Returns the given value or the sentinel, without boxing.
+     *
+     * @param value  value to return if present
+     * @param absent sentinel to return if absent
+     * @return value or sentinel
+     */
+    public double maybeDouble(double value, double absent) {
+        return present() ? value : absent;
+    }
+
+    /**
+     * Returns the given value or {@link Double#NaN}, without boxing.
+     *
+     * @param value value to return if present
+     * @return value or {@code NaN}
+     */
+    public double maybeDouble(double value) {
+        return maybeDouble(value, Double.NaN);
+    }
+
+    /**
+     * Returns the absent rows of a column of {@code rows} values: bit {@code i} is set if row
+     * {@code i} is absent (null).
+     *
+     * @param rows number of rows (&ge; 0)
+     * @return null mask
+     * @see #presenceMask(int)
+     */
+    public BitSet nullMask(int rows) {
+        return BitSet.valueOf(absentWords(rows));
+    }
+
+    /**
+     * Returns the present rows of a column of {@code rows} values as little-endian words: bit
+     * {@code i % 64} of word {@code i / 64} is set if row {@code i} is present. Bits beyond
+     * {@code rows} are clear.
+     * <p>
+     * Rows are independent with this context's absent probability, but the mask is drawn in
+     * bulk and does not reproduce a sequence of {@link #present()} calls. Sparse absent or
+     * present rows are placed by geometric gap lengths, so the number of draws is proportional
+     * to the rarer outcome; otherwise each word combines 32-bit-precision random words.
+     *
+     * @param rows number of rows (&ge; 0)
+     * @return presence mask with {@code ceil(rows / 64)} words
+     */
+    public long[] presenceMask(int rows) {
+        long[] words = absentWords(rows);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~words[i];
+        }
+        clearTail(words, rows);
+        return words;
+    }
+
+    private long[] absentWords(int rows) {
+        if (rows < 0) throw new IllegalArgumentException("rows must be >= 0 but was " + rows);
+        long[] words = new long[(rows + 63) >>> 6];
+        double p = absentProbability;
+        if (p == 0.0 || rows == 0) return words;
+
+        if (p <= SPARSE_PROBABILITY) {
+            setGeometric(words, rows, p);
+        } else if (p >= 1.0 - SPARSE_PROBABILITY) {
+            setGeometric(words, rows, 1.0 - p);
+            for (int i = 0; i < words.length; i++) {
+                words[i] = ~words[i];
+            }
+        } else {
+            // Each bit is set with probability 0.b1 b2 ... b32: starting from the least
+            // significant set bit, OR with a random word for a 1 and AND for a 0.
+            long fixed = Math.round(p * (1L << PRECISION_BITS));
+            int lowest = Long.numberOfTrailingZeros(fixed);
+            for (int w = 0; w < words.length; w++) {
+                long word = 0L;
+                for (int bit = lowest; bit < PRECISION_BITS; bit++) {
+                    word = ((fixed >>> bit) & 1L) != 0 ? word | rng.nextLong() : word & rng.nextLong();
+                }
+                words[w] = word;
+            }
+        }
+        clearTail(words, rows);
+        return words;
+    }
+
+    private void setGeometric(long[] words, int rows, double p) {
+        if (p == 0.0) return;
+        double logQ = Math.log1p(-p);
+        int row = -1;
+        while (true) {
+            // 1 - nextDouble() is in (0, 1], so the logarithm is finite and the gap >= 0
+            double gap = Math.floor(Math.log(1.0 - rng.nextDouble()) / logQ);
+            if (gap >= rows - 1 - row) return;
+            row += 1 + (int) gap;
+            words[row >>> 6] |= 1L << row;
+        }
+    }
+
+    private static void clearTail(long[] words, int rows) {
+        if ((rows & 63) != 0) {
+            words[words.length - 1] &= -1L >>> (64 - (rows & 63));
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,8 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 public final class MaybeString {
+    static final MaybeString ABSENT = new MaybeString(false, () -> null);
+
     private final Maybe<String> delegate;
 
     /**
@@ -0,0 +1,127 @@
+package de.jinteg.randomly.core;
+
+import de.jinteg.randomly.JRandomly;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BusinessCalendarTest {
+
+    private static final LocalDate CHRISTMAS = LocalDate.of(2026, 12, 25);
+    private static final LocalDate NEW_YEAR = LocalDate.of(2027, 1, 1);
+
+    private final BusinessCalendar calendar = BusinessCalendar.builder()
+            .withHolidays(List.of(CHRISTMAS, NEW_YEAR))
+            .build();
+
+    @Test
+    void select_matchesBruteForceEnumeration() {
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2027, 3, 31);
+
+        List<LocalDate> expected = new ArrayList<>();
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            if (calendar.isBusinessDay(d)) expected.add(d);
+        }
+
+        BusinessCalendar.DayIndex index = calendar.index(from, to);
+        assertThat(index.count()).isEqualTo(expected.size());
+        for (int rank = 0; rank < expected.size(); rank++) {
+            assertThat(LocalDate.ofEpochDay(index.select(rank))).isEqualTo(expected.get(rank));
+        }
+    }
+
+    @Test
+    void isBusinessDay_excludesWeekendsAndHolidays() {
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 12, 24))).isTrue();
+        assertThat(calendar.isBusinessDay(CHRISTMAS)).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 12, 26))).isFalse();
+        assertThat(calendar.countBusinessDays(LocalDate.of(2026, 12, 21), LocalDate.of(2027, 1, 3))).isEqualTo(8);
+    }
+
+    @Test
+    void businessDayBetween_returnsOnlyEligibleDays() {
+        JRandomly r = JRandomly.randomly("BusinessCalendarTest#days");
+        LocalDate from = LocalDate.of(2026, 12, 20);
+        LocalDate to = LocalDate.of(2027, 1, 10);
+
+        for (int i = 0; i < 500; i++) {
+            LocalDate d = r.dateTime().businessDayBetween(from, to, calendar);
+            assertThat(d).isBetween(from, to);
+            assertThat(calendar.isBusinessDay(d)).isTrue();
+        }
+    }
+
+    @Test
+    void businessDateTimeBetween_staysInsideSession() {
+        BusinessCalendar xetra = BusinessCalendar.builder()
+                .withWorkingDays(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY))
+                .withSession(LocalTime.of(9, 0), LocalTime.of(17, 30))
+                .build();
+        JRandomly r = JRandomly.randomly("BusinessCalendarTest#session");
+
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime dt = r.dateTime().businessDateTimeBetween(
+                    LocalDate.of(2026, 3, 1), LocalDate.of(2026, 4, 30), xetra);
+            assertThat(dt.getDayOfWeek()).isIn(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY);
+            assertThat(dt.toLocalTime()).isBetween(LocalTime.of(9, 0), LocalTime.of(17, 29, 59));
+        }
+    }
+
+    @Test
+    void businessDayBetween_rejectsRangeWithoutBusinessDays() {
+        JRandomly r = JRandomly.randomly("BusinessCalendarTest#empty");
+
+        assertThatThrownBy(() -> r.dateTime().businessDayBetween(
+                LocalDate.of(2026, 12, 26), LocalDate.of(2026, 12, 27), calendar))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void index_matchesBruteForceForArbitrarySubranges() {
+        JRandomly r = JRandomly.randomly("BusinessCalendarTest#subranges");
+        LocalDate base = LocalDate.of(2026, 11, 1);
+
+        for (int i = 0; i < 300; i++) {
+            LocalDate from = base.plusDays(r.intBetween(-400, 400));
+            LocalDate to = from.plusDays(r.intBetween(0, 200));
+            List<LocalDate> expected = new ArrayList<>();
+            for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+                if (calendar.isBusinessDay(d)) expected.add(d);
+            }
+
+            BusinessCalendar.DayIndex index = calendar.index(from, to);
+            assertThat(index.count()).isEqualTo(expected.size());
+            for (int rank = 0; rank < expected.size(); rank++) {
+                assertThat(LocalDate.ofEpochDay(index.select(rank))).isEqualTo(expected.get(rank));
+            }
+        }
+    }
+
+    @Test
+    void index_isBuiltOnceForRangesInsideTheSpanAndGrowsGeometrically() {
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        calendar.index(start, start.plusDays(999));
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 100; i++) {
+                calendar.index(start.plusDays(i), start.plusDays(i + 30));
+            }
+        }
+        assertThat(calendar.spanBuilds()).isEqualTo(1);
+
+        for (int i = 1; i <= 1_000; i++) {
+            calendar.index(start, start.plusDays(999 + i * 10L));
+        }
+        assertThat(calendar.spanBuilds()).isLessThanOrEqualTo(6);
+    }
+}
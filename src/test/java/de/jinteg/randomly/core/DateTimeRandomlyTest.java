@@ -3,12 +3,17 @@ package de.jinteg.randomly.core;
 
 import de.jinteg.randomly.JRandomly;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.TimeZone;
+import java.util.stream.LongStream;
 
 import static de.jinteg.randomly.core.DateTimeAssertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DateTimeRandomlyTest {
 
@@ -162,4 +167,216 @@ class DateTimeRandomlyTest {
 
         assertThat(result).isBefore(anchor);
     }
-}
\ No newline at end of file
+
+    @Test
+    void epochSecondInPast_matchesInstantInPast() {
+        System.setProperty("jrandomly.seed", "7");
+        System.setProperty("jrandomly.runStartTime", "2026-06-15T10:30:00Z");
+
+        long primitive = JRandomly.randomly("DateTimeTest#epochPast").dateTime().epochSecondInPast(1, 30);
+        Instant boxed = JRandomly.randomly("DateTimeTest#epochPast").dateTime().instantInPast(1, 30);
+
+        assertThat(primitive).isEqualTo(boxed.getEpochSecond());
+    }
+
+    @Test
+    void epochDayBetween_matchesLocalDateBetween() {
+        System.setProperty("jrandomly.seed", "7");
+        LocalDate from = LocalDate.of(2020, 1, 1);
+        LocalDate to = LocalDate.of(2026, 12, 31);
+
+        long primitive = JRandomly.randomly("DateTimeTest#epochDay").dateTime()
+                .epochDayBetween(from.toEpochDay(), to.toEpochDay());
+        LocalDate boxed = JRandomly.randomly("DateTimeTest#epochDay").dateTime().localDateBetween(from, to);
+
+        assertThat(primitive).isEqualTo(boxed.toEpochDay());
+    }
+
+    @Test
+    void fillEpochMillisInPast_staysInRange() {
+        System.setProperty("jrandomly.seed", "7");
+        System.setProperty("jrandomly.runStartTime", "2026-06-15T10:30:00Z");
+        long anchor = Instant.parse("2026-06-15T10:30:00Z").toEpochMilli();
+
+        long[] millis = new long[1_000];
+        JRandomly.randomly("DateTimeTest#fillMillis").dateTime().fillEpochMillisInPast(millis, 2, 5);
+
+        for (long m : millis) {
+            assertThat(m).isBetween(anchor - Duration.ofDays(5).toMillis(), anchor - Duration.ofDays(2).toMillis());
+        }
+    }
+
+    @Test
+    void epochMillisBetween_rejectsEmptyRange() {
+        DateTimeRandomly dt = JRandomly.randomly("DateTimeTest#emptyRange").dateTime();
+
+        assertThatThrownBy(() -> dt.epochMillisBetween(5, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dateTime_isCachedPerZone() {
+        JRandomly r = JRandomly.randomly("DateTimeTest#cache");
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+
+        DateTimeRandomly first = r.dateTime(berlin);
+
+        assertThat(r.dateTime(tokyo)).isNotSameAs(first);
+        assertThat(r.dateTime(berlin)).isSameAs(first);
+    }
+
+    @Test
+    void dateTime_pinsDefaultZoneOnFirstCall() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+            JRandomly r = JRandomly.randomly("DateTimeTest#defaultZone");
+            DateTimeRandomly first = r.dateTime();
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+
+            assertThat(r.dateTime()).isSameAs(first);
+            assertThat(first.zoneId()).isEqualTo(ZoneId.of("Europe/Berlin"));
+            assertThat(r.dateTime(ZoneId.of("Europe/Berlin"))).isSameAs(first);
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void anchorOffset_followsZoneRulesAtAnchor() {
+        System.setProperty("jrandomly.runStartTime", "2026-07-01T12:00:00Z");
+
+        DateTimeRandomly dt = JRandomly.randomly("DateTimeTest#offset").dateTime(ZoneId.of("Europe/Berlin"));
+
+        assertThat(dt.anchorOffset()).isEqualTo(ZoneOffset.ofHours(2));
+        assertThat(dt.localDateTime()).isEqualTo(LocalDateTime.of(2026, 7, 1, 14, 0));
+    }
+
+    @Test
+    void instantBetween_withUnit_isAlignedAndInRange() {
+        Instant from = Instant.parse("2026-06-15T10:30:00.000000123Z");
+        Instant to = Instant.parse("2026-06-15T10:30:00.005Z");
+        JRandomly r = JRandomly.randomly("DateTimeTest#precision");
+
+        for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS}) {
+            for (int i = 0; i < 200; i++) {
+                Instant value = r.dateTime().instantBetween(from, to, unit);
+                assertThat(value).isBetween(from, to);
+                assertThat(value.truncatedTo(unit)).isEqualTo(value);
+            }
+        }
+    }
+
+    @Test
+    void instantBetween_withUnit_handlesCoarseUnitsAndPreEpoch() {
+        Instant from = Instant.parse("1969-12-30T23:59:59.5Z");
+        Instant to = Instant.parse("1970-01-03T00:00:00Z");
+        JRandomly r = JRandomly.randomly("DateTimeTest#coarse");
+
+        for (int i = 0; i < 200; i++) {
+            Instant value = r.dateTime().instantBetween(from, to, ChronoUnit.HOURS);
+            assertThat(value).isBetween(from, to);
+            assertThat(value.truncatedTo(ChronoUnit.HOURS)).isEqualTo(value);
+        }
+        assertThatThrownBy(() -> r.dateTime().instantBetween(from, from.plusMillis(100), ChronoUnit.SECONDS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> r.dateTime().instantBetween(from, to, ChronoUnit.WEEKS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void localTime_withUnit_hasRequestedPrecision() {
+        JRandomly r = JRandomly.randomly("DateTimeTest#localTimeUnit");
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(r.dateTime().localTime(ChronoUnit.MILLIS).getNano() % 1_000_000).isZero();
+            assertThat(r.dateTime().localTime(ChronoUnit.MINUTES).getSecond()).isZero();
+        }
+    }
+
+    @Test
+    void localTime_withUnit_rejectsDayAndLongerUnits() {
+        DateTimeRandomly dt = JRandomly.randomly("DateTimeTest#localTimeDays").dateTime();
+
+        assertThat(dt.localTime(ChronoUnit.HALF_DAYS)).isIn(LocalTime.MIDNIGHT, LocalTime.NOON);
+        assertThatThrownBy(() -> dt.localTime(ChronoUnit.DAYS)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dt.localTime(ChronoUnit.WEEKS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void instantBetween_withUnit_rejectsRangesBeyondUnitCount() {
+        DateTimeRandomly dt = JRandomly.randomly("DateTimeTest#nanoRange").dateTime();
+        Instant farFuture = Instant.parse("2300-01-01T00:00:00Z");
+
+        assertThatThrownBy(() -> dt.instantBetween(Instant.EPOCH, farFuture, ChronoUnit.NANOS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Nanos");
+        assertThat(dt.instantBetween(Instant.EPOCH, farFuture, ChronoUnit.MICROS)).isBetween(Instant.EPOCH, farFuture);
+        assertThatThrownBy(() -> dt.instantBetween(Instant.MIN, Instant.EPOCH, ChronoUnit.MILLIS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class Events {
+
+        private final Instant from = Instant.parse("2026-03-23T00:00:00Z");
+
+        @Test
+        void poisson_isSortedInRangeAndMatchesRate() {
+            System.setProperty("jrandomly.seed", "11");
+            Instant to = from.plusSeconds(60);
+
+            long[] events = JRandomly.randomly("DateTimeTest#poisson").dateTime()
+                    .events(from, to, ArrivalModel.poisson(1_000)).toArray();
+
+            assertThat(events).isSorted();
+            assertThat(events[0]).isGreaterThanOrEqualTo(from.getEpochSecond() * 1_000_000_000L);
+            assertThat(events[events.length - 1]).isLessThan(to.getEpochSecond() * 1_000_000_000L);
+            assertThat(events.length).isBetween(57_000, 63_000);
+        }
+
+        @Test
+        void sameSeed_sameEvents() {
+            System.setProperty("jrandomly.seed", "11");
+            ArrivalModel model = ArrivalModel.bursty(1, 50, Duration.ofMinutes(5), Duration.ofSeconds(30));
+            Instant to = from.plus(Duration.ofHours(1));
+
+            long[] a = JRandomly.randomly("DateTimeTest#bursty").dateTime().events(from, to, model).toArray();
+            long[] b = JRandomly.randomly("DateTimeTest#bursty").dateTime().events(from, to, model).toArray();
+
+            assertThat(a).isSorted().isEqualTo(b);
+        }
+
+        @Test
+        void businessHours_followLocalTimeAcrossDst() {
+            System.setProperty("jrandomly.seed", "11");
+            ZoneId berlin = ZoneId.of("Europe/Berlin");
+            ArrivalModel model = ArrivalModel.businessHours(0.01, 0, LocalTime.of(9, 0), LocalTime.of(17, 0));
+
+            long[] events = JRandomly.randomly("DateTimeTest#businessHours").dateTime(berlin)
+                    .events(from, from.plus(Duration.ofDays(14)), model).toArray();
+
+            assertThat(events).isNotEmpty().isSorted();
+            for (long nanos : events) {
+                ZonedDateTime local = Instant.ofEpochSecond(0, nanos).atZone(berlin);
+                assertThat(local.getDayOfWeek()).isNotIn(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+                assertThat(local.toLocalTime()).isBetween(LocalTime.of(9, 0), LocalTime.of(17, 0));
+            }
+        }
+
+        @Test
+        void consumingStream_doesNotShiftOtherDraws() {
+            System.setProperty("jrandomly.seed", "11");
+
+            JRandomly consumed = JRandomly.randomly("DateTimeTest#isolation");
+            LongStream events = consumed.dateTime().events(from, from.plusSeconds(10), ArrivalModel.poisson(100));
+            events.count();
+            JRandomly untouched = JRandomly.randomly("DateTimeTest#isolation");
+            untouched.dateTime().events(from, from.plusSeconds(10), ArrivalModel.poisson(100));
+
+            assertThat(consumed.nextLong()).isEqualTo(untouched.nextLong());
+        }
+    }
+}
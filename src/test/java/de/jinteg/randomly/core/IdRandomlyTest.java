@@ -4,6 +4,9 @@ import de.jinteg.randomly.JRandomly;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.UUID;
 
 class IdRandomlyTest {
@@ -17,6 +20,212 @@ class IdRandomlyTest {
         Assertions.assertThat(uuid.toString()).hasSize(36);
     }
 
+    @Test
+    void uuid_hasVersion4AndVariant2() {
+        for (int i = 0; i < 100; i++) {
+            UUID uuid = randomly.id().uuid();
+            Assertions.assertThat(uuid.version()).isEqualTo(4);
+            Assertions.assertThat(uuid.variant()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void uuid_hex01Algorithm_isValidV4() {
+        UUID uuid = randomly.id().uuid(IdRandomly.UuidAlgorithm.HEX_0_1);
+        Assertions.assertThat(uuid.version()).isEqualTo(4);
+        Assertions.assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void uuid_isDeterministic() {
+        UUID a = JRandomly.builder().withSeed(7).withScope("IdRandomlyTest#det").build().id().uuid();
+        UUID b = JRandomly.builder().withSeed(7).withScope("IdRandomlyTest#det").build().id().uuid();
+        Assertions.assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    void uuids_matchesSingleDraws() {
+        List<UUID> bulk = JRandomly.builder().withSeed(7).withScope("IdRandomlyTest#bulk").build().id().uuids(50);
+        JRandomly single = JRandomly.builder().withSeed(7).withScope("IdRandomlyTest#bulk").build();
+
+        Assertions.assertThat(bulk).hasSize(50);
+        Assertions.assertThat(new HashSet<>(bulk)).hasSize(50);
+        for (UUID uuid : bulk) {
+            Assertions.assertThat(uuid).isEqualTo(single.id().uuid());
+        }
+    }
+
+    @Test
+    void fillUuids_matchesUuids() {
+        long[] msb = new long[20];
+        long[] lsb = new long[20];
+        JRandomly.builder().withSeed(7).withScope("IdRandomlyTest#fill").build().id().fillUuids(msb, lsb);
+        List<UUID> expected = JRandomly.builder().withSeed(7).withScope("IdRandomlyTest#fill").build().id().uuids(20);
+
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertThat(new UUID(msb[i], lsb[i])).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    void fillUuids_rejectsLengthMismatch() {
+        Assertions.assertThatThrownBy(() -> randomly.id().fillUuids(new long[2], new long[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void uuidV7_isTimeOrderedFromRunStartTime() {
+        Instant start = Instant.parse("2026-06-15T10:30:00Z");
+        JRandomly r = JRandomly.builder().withSeed(3).withRunStartTime(start).withScope("IdRandomlyTest#v7").build();
+
+        UUID first = r.id().uuidV7();
+        Assertions.assertThat(first.version()).isEqualTo(7);
+        Assertions.assertThat(first.variant()).isEqualTo(2);
+        Assertions.assertThat(first.getMostSignificantBits() >>> 16).isEqualTo(start.toEpochMilli());
+
+        UUID previous = first;
+        for (UUID next : r.id().uuidsV7(10_000)) {
+            Assertions.assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void uuidV7_isDeterministic() {
+        JRandomly a = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#v7det").build();
+        JRandomly b = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#v7det").build();
+
+        Assertions.assertThat(a.id().uuidsV7(100)).isEqualTo(b.id().uuidsV7(100));
+    }
+
+    @Test
+    void fillUuidsV7_producesValidUuids() {
+        long[] msb = new long[100];
+        long[] lsb = new long[100];
+        randomly.id().fillUuidsV7(msb, lsb);
+
+        for (int i = 0; i < msb.length; i++) {
+            UUID uuid = new UUID(msb[i], lsb[i]);
+            Assertions.assertThat(uuid.version()).isEqualTo(7);
+            Assertions.assertThat(uuid.variant()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void ulid_hasCrockfordFormatAndTimestamp() {
+        Instant start = Instant.parse("2026-06-15T10:30:00Z");
+        JRandomly r = JRandomly.builder().withSeed(3).withRunStartTime(start).withScope("IdRandomlyTest#ulid").build();
+
+        String ulid = r.id().ulid();
+
+        Assertions.assertThat(ulid).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = (millis << 5) | "0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(ulid.charAt(i));
+        }
+        Assertions.assertThat(millis).isEqualTo(start.toEpochMilli());
+    }
+
+    @Test
+    void ulids_areStrictlyAscending() {
+        List<String> ulids = randomly.id().ulids(10_000);
+
+        for (int i = 1; i < ulids.size(); i++) {
+            Assertions.assertThat(ulids.get(i)).isGreaterThan(ulids.get(i - 1));
+        }
+    }
+
+    @Test
+    void snowflake_encodesLayoutFields() {
+        Instant start = Instant.parse("2026-06-15T10:30:00Z");
+        JRandomly r = JRandomly.builder().withSeed(3).withRunStartTime(start).withScope("IdRandomlyTest#snow").build();
+        SnowflakeLayout layout = SnowflakeLayout.TWITTER;
+
+        long id = r.id().snowflake(layout, 5);
+
+        Assertions.assertThat(id).isPositive();
+        Assertions.assertThat(id >>> 22).isEqualTo(start.toEpochMilli() - layout.epochMillis());
+        Assertions.assertThat((id >>> 12) & layout.maxWorkerId()).isEqualTo(5);
+        Assertions.assertThat(id & layout.maxSequence()).isZero();
+    }
+
+    @Test
+    void snowflake_isStrictlyAscendingAcrossSequenceOverflow() {
+        SnowflakeLayout tinySequence = new SnowflakeLayout(0, 50, 4, 2);
+        long[] ids = new long[10_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = randomly.id().snowflake(tinySequence, 1);
+        }
+
+        for (int i = 1; i < ids.length; i++) {
+            Assertions.assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+        }
+    }
+
+    @Test
+    void snowflake_differentWorkersNeverCollide() {
+        JRandomly a = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#workerA").build();
+        JRandomly b = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#workerA").build();
+        HashSet<Long> seen = new HashSet<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            Assertions.assertThat(seen.add(a.id().snowflake(SnowflakeLayout.TWITTER, 1))).isTrue();
+            Assertions.assertThat(seen.add(b.id().snowflake(SnowflakeLayout.TWITTER, 2))).isTrue();
+        }
+    }
+
+    @Test
+    void snowflake_defaultWorkerDependsOnlyOnTheSeed() {
+        SnowflakeLayout layout = SnowflakeLayout.TWITTER;
+        long alone = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#mine").build().id().snowflake(layout);
+
+        for (int scope = 0; scope < 50; scope++) {
+            JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#other" + scope).build().id().snowflake(layout);
+        }
+        long afterOthers = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#mine").build().id().snowflake(layout);
+
+        Assertions.assertThat(afterOthers).isEqualTo(alone);
+    }
+
+    @Test
+    void snowflake_defaultWorkersSpreadOverWorkerBits() {
+        HashSet<Long> workers = new HashSet<>();
+        for (int scope = 0; scope < 2_000; scope++) {
+            long id = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#spread" + scope).build()
+                    .id().snowflake(SnowflakeLayout.TWITTER);
+            workers.add((id >>> 12) & SnowflakeLayout.TWITTER.maxWorkerId());
+        }
+
+        // 2000 uniform draws over 1024 ids cover about 86% of them
+        Assertions.assertThat(workers.size()).isBetween(820, 940);
+    }
+
+    @Test
+    void snowflake_defaultWorkerIsStablePerScope() {
+        long a = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#stable").build().id().snowflake(SnowflakeLayout.TWITTER);
+        long b = JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#stable").build().id().snowflake(SnowflakeLayout.TWITTER);
+
+        Assertions.assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    void snowflake_rejectsWorkerIdOutsideLayout() {
+        Assertions.assertThatThrownBy(() -> randomly.id().snowflake(SnowflakeLayout.TWITTER, 1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void snowflakeLayout_rejectsMoreThan63Bits() {
+        Assertions.assertThatThrownBy(() -> new SnowflakeLayout(0, 42, 10, 12))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void id_isCachedPerInstance() {
+        Assertions.assertThat(randomly.id()).isSameAs(randomly.id());
+    }
+
     @Test
     void longId() {
         long l = randomly.id().longId();
@@ -31,6 +240,40 @@ class IdRandomlyTest {
                 .isLessThan(2000);
     }
 
+    @Test
+    void uniqueLongIdsBetween_coversRangeWithoutRepeats() {
+        UniqueLongIds ids = randomly.id().uniqueLongIdsBetween(1_000, 5_999);
+        HashSet<Long> seen = new HashSet<>();
+
+        while (ids.hasNext()) {
+            long id = ids.next();
+            Assertions.assertThat(id).isBetween(1_000L, 5_999L);
+            Assertions.assertThat(seen.add(id)).isTrue();
+        }
+
+        Assertions.assertThat(seen).hasSize(5_000);
+        Assertions.assertThatThrownBy(ids::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void uniqueLongIds_arePositiveAndDeterministic() {
+        long[] a = new long[1_000];
+        long[] b = new long[1_000];
+        JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#unique").build().id().uniqueLongIds().fill(a);
+        JRandomly.builder().withSeed(3).withScope("IdRandomlyTest#unique").build().id().uniqueLongIds().fill(b);
+
+        Assertions.assertThat(a).isEqualTo(b);
+        for (long id : a) {
+            Assertions.assertThat(id).isPositive();
+        }
+    }
+
+    @Test
+    void uniqueLongIdsBetween_rejectsNonPositiveMin() {
+        Assertions.assertThatThrownBy(() -> randomly.id().uniqueLongIdsBetween(0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void intId() {
         int i = randomly.id().intId();
@@ -0,0 +1,91 @@
+package de.jinteg.randomly.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsoFormatterTest {
+
+    private static final int[] NANOS = {0, 1, 100, 120_000, 123_456_789, 500_000_000, 999_999_999, 10_000};
+    private static final int[] OFFSETS = {0, 3600, -3600, 19_800, -34_200, 5 * 3600 + 30 * 60 + 15, -18 * 3600};
+
+    @Test
+    void matchesDateTimeFormatter_forRandomValues() {
+        SplittableRandom random = new SplittableRandom(42);
+        long min = LocalDate.of(0, 1, 1).toEpochDay() * 86_400L;
+        long max = LocalDate.of(9999, 12, 31).toEpochDay() * 86_400L + 86_399L;
+
+        for (int i = 0; i < 20_000; i++) {
+            long second = random.nextLong(min, max + 1);
+            int nano = i % 2 == 0 ? NANOS[i / 2 % NANOS.length] : random.nextInt(1_000_000_000);
+            int offset = OFFSETS[i % OFFSETS.length];
+            assertMatches(second, nano, offset);
+        }
+    }
+
+    @Test
+    void matchesDateTimeFormatter_forEdgeValues() {
+        long[] seconds = {
+                0, -1, 86_399, 86_400,
+                LocalDateTime.of(0, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(-1, 12, 31, 23, 59, 59).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(10_000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(2024, 2, 29, 12, 0).toEpochSecond(ZoneOffset.UTC),
+                LocalDateTime.of(1900, 3, 1, 0, 0).toEpochSecond(ZoneOffset.UTC),
+        };
+        for (long second : seconds) {
+            for (int nano : NANOS) {
+                for (int offset : OFFSETS) {
+                    assertMatches(second, nano, offset);
+                }
+            }
+        }
+    }
+
+    @Test
+    void byteAndAppendableVariants_matchCharVariant() {
+        long second = Instant.parse("2026-06-15T10:30:05.120Z").getEpochSecond();
+        String expected = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                Instant.ofEpochSecond(second, 120_000_000).atOffset(ZoneOffset.ofHours(2)));
+
+        byte[] bytes = new byte[IsoFormatter.MAX_LENGTH + 3];
+        int end = IsoFormatter.writeOffsetDateTime(second, 120_000_000, 7200, bytes, 3);
+        StringBuilder sb = new StringBuilder("x");
+        IsoFormatter.appendOffsetDateTime(sb, second, 120_000_000, 7200);
+
+        assertThat(new String(bytes, 3, end - 3, StandardCharsets.US_ASCII)).isEqualTo(expected);
+        assertThat(sb).hasToString("x" + expected);
+    }
+
+    @Test
+    void rejectsInvalidValues() {
+        assertThatThrownBy(() -> IsoFormatter.formatLocalTime(-1)).isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> IsoFormatter.formatInstant(0, 1_000_000_000)).isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> IsoFormatter.formatOffsetDateTime(0, 0, 19 * 3600))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertMatches(long second, int nano, int offsetSeconds) {
+        LocalDateTime ldt = LocalDateTime.ofEpochSecond(second, nano, ZoneOffset.UTC);
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(offsetSeconds);
+
+        assertThat(IsoFormatter.formatLocalDate(ldt.toLocalDate().toEpochDay()))
+                .isEqualTo(DateTimeFormatter.ISO_LOCAL_DATE.format(ldt));
+        assertThat(IsoFormatter.formatLocalTime(ldt.toLocalTime().toNanoOfDay()))
+                .isEqualTo(DateTimeFormatter.ISO_LOCAL_TIME.format(ldt));
+        assertThat(IsoFormatter.formatLocalDateTime(second, nano))
+                .isEqualTo(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(ldt));
+        assertThat(IsoFormatter.formatInstant(second, nano))
+                .isEqualTo(DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochSecond(second, nano)));
+        assertThat(IsoFormatter.formatOffsetDateTime(second, nano, offsetSeconds))
+                .isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                        Instant.ofEpochSecond(second, nano).atOffset(offset)));
+    }
+}
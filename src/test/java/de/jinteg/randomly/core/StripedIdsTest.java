@@ -0,0 +1,89 @@
+package de.jinteg.randomly.core;
+
+import de.jinteg.randomly.JRandomly;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedIdsTest {
+
+    private final JRandomly randomly = JRandomly.randomly("StripedIdsTest");
+
+    @Test
+    void partitions_coverDenseRangeInParallel() throws Exception {
+        StripedIds ids = randomly.id().stripedIds(1_000, 8, 100);
+        int perPartition = 10_000;
+        long[][] issued = new long[8][perPartition];
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < 8; p++) {
+                int partition = p;
+                futures.add(pool.submit(() -> {
+                    StripedIds.Partition mine = ids.partition(partition);
+                    for (int i = 0; i < perPartition; i++) {
+                        issued[partition][i] = mine.next();
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        }
+
+        boolean[] seen = new boolean[8 * perPartition];
+        for (long[] partition : issued) {
+            for (int i = 0; i < partition.length; i++) {
+                if (i > 0) {
+                    assertThat(partition[i]).isGreaterThan(partition[i - 1]);
+                }
+                int offset = (int) (partition[i] - 1_000);
+                assertThat(seen[offset]).isFalse();
+                seen[offset] = true;
+            }
+        }
+    }
+
+    @Test
+    void next_matchesIdAt() {
+        StripedIds ids = randomly.id().stripedIds(1, 3, 4);
+        StripedIds.Partition partition = ids.partition(2);
+
+        for (long ordinal = 0; ordinal < 50; ordinal++) {
+            assertThat(partition.next()).isEqualTo(ids.idAt(2, ordinal));
+        }
+        assertThat(partition.issued()).isEqualTo(50);
+    }
+
+    @Test
+    void blockSizeOne_interleavesPartitions() {
+        StripedIds ids = randomly.id().stripedIds(1, 4, 1);
+
+        assertThat(ids.partition(0).next()).isEqualTo(1);
+        assertThat(ids.partition(1).next()).isEqualTo(2);
+        assertThat(ids.partition(0).next()).isEqualTo(5);
+        assertThat(ids.idAt(3, 2)).isEqualTo(12);
+    }
+
+    @Test
+    void partition_returnsSameInstance() {
+        StripedIds ids = randomly.id().stripedIds(1, 2, 10);
+
+        assertThat(ids.partition(1)).isSameAs(ids.partition(1));
+    }
+
+    @Test
+    void invalidArguments_throwIAE() {
+        assertThatThrownBy(() -> randomly.id().stripedIds(0, 2, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> randomly.id().stripedIds(1, 0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> randomly.id().stripedIds(1, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> randomly.id().stripedIds(1, 2, 10).partition(2)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
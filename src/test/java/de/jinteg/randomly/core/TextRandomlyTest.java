@@ -6,6 +6,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -463,6 +470,14 @@ class TextRandomlyTest {
             assertThat(a).isEqualTo(b);
         }
 
+        @Test
+        void slug_usesSameWordsAsCompoundName() {
+            String compound = textRandomly("slug#compound").compoundName(Locale.GERMAN);
+            String slug = textRandomly("slug#compound").slug(Locale.GERMAN);
+
+            assertThat(slug.replace("-", "")).isEqualTo(compound.toLowerCase(Locale.GERMAN));
+        }
+
         @Test
         void slug_hasExactlyOneHyphen() {
             String result = textRandomly("slug#hyphens").slug(Locale.ENGLISH);
@@ -471,4 +486,66 @@ class TextRandomlyTest {
             assertThat(hyphenCount).isOne();
         }
     }
-}
\ No newline at end of file
+
+    // ── stream ──────────────────────────────────────────────
+
+    @Nested
+    class Stream {
+
+        @Test
+        void stream_channel_writesExactByteCount() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            textRandomly("stream#channel").stream(100_003, Channels.newChannel(out), Locale.GERMAN);
+
+            assertThat(out.size()).isEqualTo(100_003);
+        }
+
+        @Test
+        void stream_channel_producesValidUtf8() throws CharacterCodingException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (int target = 0; target < 200; target++) {
+                out.reset();
+                textRandomly("stream#utf8").stream(target, Channels.newChannel(out), Locale.GERMAN);
+
+                assertThat(out.size()).isEqualTo(target);
+                StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPORT)
+                        .decode(ByteBuffer.wrap(out.toByteArray()));
+            }
+        }
+
+        @Test
+        void stream_writer_matchesUtf8ByteTarget() {
+            for (int target = 0; target < 200; target++) {
+                StringWriter out = new StringWriter();
+                textRandomly("stream#writer").stream(target, out, Locale.GERMAN);
+
+                assertThat(out.toString().getBytes(StandardCharsets.UTF_8)).hasSize(target);
+            }
+        }
+
+        @Test
+        void stream_writerAndChannel_produceSameText() {
+            StringWriter writer = new StringWriter();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            textRandomly("stream#same").stream(150_000, writer, Locale.GERMAN);
+            textRandomly("stream#same").stream(150_000, Channels.newChannel(bytes), Locale.GERMAN);
+
+            assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo(writer.toString());
+        }
+
+        @Test
+        void stream_containsParagraphs() {
+            StringWriter out = new StringWriter();
+            textRandomly("stream#para").stream(10_000, out, Locale.ENGLISH);
+
+            assertThat(out.toString()).contains("\n\n");
+        }
+
+        @Test
+        void stream_negativeTarget_throwsIAE() {
+            assertThatThrownBy(() -> textRandomly("stream#neg").stream(-1, new StringWriter()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package de.jinteg.randomly.core;
+
+import de.jinteg.randomly.JRandomly;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UniqueNamesTest {
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty("jrandomly.seed", "42");
+    }
+
+    @AfterEach
+    void cleanup() {
+        System.clearProperty("jrandomly.seed");
+    }
+
+    @Test
+    void nextSlug_isUniqueUntilExhausted() {
+        UniqueNames names = JRandomly.randomly("uniqueNames#exhaust").text().uniqueNames(3, Locale.ENGLISH);
+        Set<String> seen = new HashSet<>();
+
+        while (names.hasNext()) {
+            assertThat(seen.add(names.nextSlug())).isTrue();
+        }
+
+        assertThat(seen).hasSize((int) names.capacity());
+        assertThat(names.remaining()).isZero();
+        assertThatThrownBy(names::nextSlug)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("exhausted");
+    }
+
+    @Test
+    void nextCompoundName_withoutSuffix_isUnique() {
+        UniqueNames names = JRandomly.randomly("uniqueNames#compound").text().uniqueNames(0, Locale.GERMAN);
+        Set<String> seen = new HashSet<>();
+
+        while (names.hasNext()) {
+            String name = names.nextCompoundName();
+            assertThat(Character.isUpperCase(name.charAt(0))).isTrue();
+            assertThat(seen.add(name)).isTrue();
+        }
+    }
+
+    @Test
+    void nextSlug_withSuffix_hasExpectedFormat() {
+        UniqueNames names = JRandomly.randomly("uniqueNames#format").text().uniqueNames(100, Locale.ENGLISH);
+
+        assertThat(names.nextSlug()).matches("[a-z]+-[a-z]+-\\d{1,2}");
+        assertThat(names.nextCompoundName()).matches("[A-Z][a-z]+[A-Z][a-z]+\\d{1,2}");
+    }
+
+    @Test
+    void uniqueNames_isDeterministic() {
+        UniqueNames a = JRandomly.randomly("uniqueNames#det").text().uniqueNames(1000, Locale.ENGLISH);
+        UniqueNames b = JRandomly.randomly("uniqueNames#det").text().uniqueNames(1000, Locale.ENGLISH);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(a.nextSlug()).isEqualTo(b.nextSlug());
+        }
+    }
+
+    @Test
+    void uniqueNames_negativeSuffixBound_throwsIAE() {
+        assertThatThrownBy(() -> JRandomly.randomly("uniqueNames#neg").text().uniqueNames(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
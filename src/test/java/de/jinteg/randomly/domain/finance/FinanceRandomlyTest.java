@@ -4,12 +4,15 @@ import de.jinteg.randomly.JRandomly;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.util.Currency;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
 class FinanceRandomlyTest {
 
@@ -56,6 +59,18 @@ class FinanceRandomlyTest {
 
     }
 
+    @Test
+    void stock_returnsCachedEntryAndMatchesSymbolDraw() {
+        System.setProperty("jrandomly.seed", "1");
+
+        StockEntry first = JRandomly.randomly("FinanceTest#cached").finance().stock(Locale.US);
+        StockEntry second = JRandomly.randomly("FinanceTest#cached").finance().stock(Locale.US);
+        String symbol = JRandomly.randomly("FinanceTest#cached").finance().stockSymbol(Locale.US);
+
+        assertThat(second).isSameAs(first);
+        assertThat(symbol).isEqualTo(first.symbol());
+    }
+
     @Test
     void stock_withLocale() {
         System.setProperty("jrandomly.seed", "1");
@@ -137,5 +152,100 @@ class FinanceRandomlyTest {
         assertThat(currency1).isNotNull().isNotEqualTo(currency2);
     }
 
-}
+    @Test
+    void currency_excludingAllButOne_returnsRemainingCurrency() {
+        JRandomly r = JRandomly.randomly("FinanceTest#CurrencyAllButOne");
+        Currency chf = Currency.getInstance("CHF");
+        List<Currency> excluding = Currency.getAvailableCurrencies().stream()
+                .filter(c -> !c.equals(chf))
+                .toList();
+
+        assertThat(r.finance().currency(excluding)).isEqualTo(chf);
+        assertThatThrownBy(() -> r.finance().currency(Currency.getAvailableCurrencies()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void currencySymbol_excludingSymbol_excludesEveryCurrencyWithThatSymbol() {
+        JRandomly r = JRandomly.randomly("FinanceTest#CurrencySymbolShared");
+        String dollar = Currency.getInstance("USD").getSymbol();
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(r.finance().currencySymbol(List.of(dollar))).isNotEqualTo(dollar);
+        }
+    }
+
+    @Test
+    void currencySymbol_withDisplayLocale_matchesCurrencyGetSymbol() {
+        System.setProperty("jrandomly.seed", "3");
+
+        Currency currency = JRandomly.randomly("FinanceTest#CurrencySymbolLocale").finance().currency();
+        String symbol = JRandomly.randomly("FinanceTest#CurrencySymbolLocale").finance().currencySymbol(Locale.GERMANY);
+
+        assertThat(symbol).isEqualTo(currency.getSymbol(Locale.GERMANY));
+    }
+
+    @Test
+    void amount_hasCurrencyScaleAndStaysInRange() {
+        JRandomly r = JRandomly.randomly("FinanceTest#amount");
+        BigDecimal min = new BigDecimal("19.995");
+        BigDecimal max = new BigDecimal("20.02");
+
+        for (int i = 0; i < 200; i++) {
+            BigDecimal eur = r.finance().amount(Currency.getInstance("EUR"), min, max);
+            BigDecimal jpy = r.finance().amount(Currency.getInstance("JPY"), BigDecimal.ONE, BigDecimal.TEN);
+            assertThat(eur.scale()).isEqualTo(2);
+            assertThat(eur).isBetween(new BigDecimal("20.00"), max);
+            assertThat(jpy.scale()).isZero();
+            assertThat(jpy).isBetween(BigDecimal.ONE, BigDecimal.TEN);
+        }
+        assertThatThrownBy(() -> r.finance().amount(Currency.getInstance("EUR"),
+                new BigDecimal("1.001"), new BigDecimal("1.009")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void amountUnscaled_matchesBigDecimalVariant() {
+        System.setProperty("jrandomly.seed", "4");
+        Currency usd = Currency.getInstance("USD");
+
+        BigDecimal amount = JRandomly.randomly("FinanceTest#unscaled").finance()
+                .amount(usd, new BigDecimal("1.00"), new BigDecimal("999.99"));
+        long unscaled = JRandomly.randomly("FinanceTest#unscaled").finance().amountUnscaled(100, 99_999);
+
+        assertThat(BigDecimal.valueOf(unscaled, FinanceRandomly.amountScale(usd))).isEqualTo(amount);
+    }
 
+    @Test
+    void fxRates_areTriangularConsistentAndStableWithinInstance() {
+        JRandomly r = JRandomly.randomly("FinanceRandomlyTest#fx");
+        Currency eur = Currency.getInstance("EUR");
+        Currency usd = Currency.getInstance("USD");
+        Currency jpy = Currency.getInstance("JPY");
+        Currency chf = Currency.getInstance("CHF");
+
+        FxRates rates = r.finance().fxRates(Set.of(eur, usd, jpy));
+        assertThat(rates.currencies()).containsExactly(eur, jpy, usd);
+        assertThat(rates.rate(usd, usd)).isEqualTo(1.0);
+        assertThat(rates.rate(eur, usd) * rates.rate(usd, jpy)).isCloseTo(rates.rate(eur, jpy), within(1e-9 * rates.rate(eur, jpy)));
+        assertThat(rates.rate(eur, jpy) * rates.rate(jpy, eur)).isCloseTo(1.0, within(1e-12));
+        assertThat(rates.convert(new BigDecimal("100.00"), eur, jpy).scale()).isZero();
+        assertThatThrownBy(() -> rates.rate(eur, chf)).isInstanceOf(IllegalArgumentException.class);
+
+        FxRates wider = r.finance().fxRates(List.of(chf, jpy, eur));
+        assertThat(wider.rate("EUR", "JPY")).isEqualTo(rates.rate("EUR", "JPY"));
+        assertThat(wider.rate(chf, eur)).isPositive();
+    }
+
+    @Test
+    void fxRates_areReproducibleRegardlessOfCollectionOrder() {
+        System.setProperty("jrandomly.seed", "5");
+        List<Currency> currencies = List.of(Currency.getInstance("GBP"), Currency.getInstance("SEK"), Currency.getInstance("NOK"));
+
+        FxRates a = JRandomly.randomly("FinanceRandomlyTest#fxRepro").finance().fxRates(currencies);
+        FxRates b = JRandomly.randomly("FinanceRandomlyTest#fxRepro").finance().fxRates(currencies.reversed());
+
+        assertThat(a.rate("GBP", "NOK")).isEqualTo(b.rate("GBP", "NOK"));
+        assertThat(a.rate("SEK", "GBP")).isEqualTo(b.rate("SEK", "GBP"));
+    }
+}
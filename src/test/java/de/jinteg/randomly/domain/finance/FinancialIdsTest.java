@@ -0,0 +1,104 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.JRandomly;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FinancialIdsTest {
+
+    @Test
+    void checkDigits_matchPublishedIdentifiers() {
+        // SAP (DE0007164600), Apple (US0378331005, CUSIP 037833100)
+        assertThat(FinancialIds.isinCheckDigit("DE000716460".toCharArray())).isEqualTo('0');
+        assertThat(FinancialIds.isinCheckDigit("US037833100".toCharArray())).isEqualTo('5');
+        assertThat(FinancialIds.cusipCheckDigit("US03783310".toCharArray(), 2)).isEqualTo('0');
+        assertThat(FinancialIds.luhnCheckDigit("7992739871".toCharArray(), 10)).isEqualTo('3');
+        assertThat(ibanIsValid("DE89370400440532013000")).isTrue();
+        assertThat(ibanIsValid("GB29NWBK60161331926819")).isTrue();
+    }
+
+    @Test
+    void iban_isValidForEverySupportedCountry() {
+        JRandomly r = JRandomly.randomly("FinancialIdsTest#iban");
+        List<String> countries = List.of("AT", "BE", "CH", "DE", "ES", "FR", "GB", "IT", "LU", "NL", "PL");
+        List<Integer> lengths = List.of(20, 16, 21, 22, 24, 27, 22, 27, 20, 18, 28);
+
+        for (int c = 0; c < countries.size(); c++) {
+            for (int i = 0; i < 200; i++) {
+                String iban = r.finance().iban(countries.get(c));
+                assertThat(iban).startsWith(countries.get(c)).hasSize(lengths.get(c)).matches("[A-Z]{2}\\d{2}[A-Z0-9]+");
+                assertThat(ibanIsValid(iban)).as(iban).isTrue();
+            }
+        }
+        assertThatThrownBy(() -> r.finance().iban("US")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> r.finance().iban("D")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(r.finance().iban("de")).startsWith("DE").satisfies(iban -> assertThat(ibanIsValid(iban)).isTrue());
+    }
+
+    @Test
+    void isin_followsLocaleAndIsValid() {
+        JRandomly r = JRandomly.randomly("FinancialIdsTest#isin");
+
+        for (int i = 0; i < 500; i++) {
+            String de = r.finance().isin(Locale.GERMANY);
+            String us = r.finance().isin(Locale.US);
+            assertThat(de).matches("DE000[0-9A-HJ-NP-Z]{6}\\d");
+            assertThat(us).matches("US[0-9A-HJ-NP-Z]{6}\\d{4}");
+            assertThat(luhnValid(expandLetters(de))).as(de).isTrue();
+            assertThat(luhnValid(expandLetters(us))).as(us).isTrue();
+        }
+        assertThat(r.finance().wkn()).matches("[0-9A-HJ-NP-Z]{6}");
+    }
+
+    @Test
+    void cardNumber_isLuhnValidWithBrandPrefix() {
+        JRandomly r = JRandomly.randomly("FinancialIdsTest#card");
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(r.finance().cardNumber(CardBrand.VISA)).matches("4\\d{15}").satisfies(n -> assertThat(luhnValid(n)).isTrue());
+            assertThat(r.finance().cardNumber(CardBrand.MASTERCARD)).matches("5[1-5]\\d{14}").satisfies(n -> assertThat(luhnValid(n)).isTrue());
+            assertThat(r.finance().cardNumber(CardBrand.AMEX)).matches("3[47]\\d{13}").satisfies(n -> assertThat(luhnValid(n)).isTrue());
+        }
+    }
+
+    @Test
+    void bic_hasCountryAndNoTestMarker() {
+        JRandomly r = JRandomly.randomly("FinancialIdsTest#bic");
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(r.finance().bic("de")).matches("[A-Z]{4}DE[A-Z0-9][A-Z1-9]([A-Z0-9]{3})");
+        }
+    }
+
+    private static boolean ibanIsValid(String iban) {
+        String rearranged = iban.substring(4) + iban.substring(0, 4);
+        return new BigInteger(expandLetters(rearranged)).mod(BigInteger.valueOf(97)).intValue() == 1;
+    }
+
+    private static String expandLetters(String value) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            sb.append(Character.isDigit(c) ? String.valueOf(c) : String.valueOf(c - 'A' + 10));
+        }
+        return sb.toString();
+    }
+
+    private static boolean luhnValid(String digits) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int d = digits.charAt(digits.length() - 1 - i) - '0';
+            if (i % 2 == 1) {
+                d *= 2;
+                if (d > 9) d -= 9;
+            }
+            sum += d;
+        }
+        return sum % 10 == 0;
+    }
+}
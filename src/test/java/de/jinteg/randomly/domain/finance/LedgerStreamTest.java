@@ -0,0 +1,123 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.JRandomly;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Currency;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerStreamTest {
+
+    private static final Instant START = Instant.parse("2026-06-15T09:00:00Z");
+
+    @AfterEach
+    void cleanup() {
+        System.clearProperty("jrandomly.seed");
+        System.clearProperty("jrandomly.runStartTime");
+    }
+
+    @Test
+    void ledger_isBalancedAndTracksRunningBalances() {
+        System.setProperty("jrandomly.runStartTime", START.toString());
+        LedgerOptions options = LedgerOptions.builder()
+                .withAccounts(30)
+                .withCurrencies(List.of(Currency.getInstance("EUR"), Currency.getInstance("JPY")))
+                .withMaxLegs(5)
+                .build();
+        LedgerStream stream = JRandomly.randomly("LedgerStreamTest#balanced").finance().ledger(options);
+
+        long[] expected = new long[stream.accountCount()];
+        long previous = START.getEpochSecond() * 1_000_000_000L;
+        LedgerEntry first = stream.next();
+        for (int i = 0; i < 50_000; i++) {
+            LedgerEntry e = i == 0 ? first : stream.next();
+            assertThat(e).isSameAs(first);
+            assertThat(e.anomaly()).isEqualTo(LedgerEntry.Anomaly.NONE);
+            assertThat(e.transactionId()).isEqualTo(i + 1);
+            assertThat(e.timestampNanos()).isGreaterThanOrEqualTo(previous);
+            assertThat(e.legCount()).isBetween(2, 5);
+            assertThat(e.imbalanceUnscaled()).isZero();
+            for (int leg = 0; leg < e.legCount(); leg++) {
+                assertThat(e.amountUnscaled(leg)).isNotZero();
+                assertThat(stream.accountCurrency(e.account(leg))).isEqualTo(e.currency());
+                assertThat(e.accountCode(leg)).matches("[1-5]\\d{4}");
+                expected[e.account(leg)] += e.amountUnscaled(leg);
+            }
+            previous = e.timestampNanos();
+        }
+
+        long[] balances = new long[stream.accountCount()];
+        stream.copyBalances(balances);
+        assertThat(balances).containsExactly(expected);
+        long total = 0;
+        for (long balance : balances) total += balance;
+        assertThat(total).isZero();
+    }
+
+    @Test
+    void ledger_injectsAnomaliesAtConfiguredRates() {
+        System.setProperty("jrandomly.runStartTime", START.toString());
+        LedgerOptions options = LedgerOptions.builder()
+                .withUnbalancedRate(0.05)
+                .withDuplicateRate(0.02)
+                .withOutOfOrderRate(0.03)
+                .build();
+        LedgerStream stream = JRandomly.randomly("LedgerStreamTest#anomalies").finance().ledger(options);
+
+        Map<LedgerEntry.Anomaly, Integer> counts = new EnumMap<>(LedgerEntry.Anomaly.class);
+        long previousId = 0;
+        long previousTimestamp = START.getEpochSecond() * 1_000_000_000L;
+        for (int i = 0; i < 100_000; i++) {
+            LedgerEntry e = stream.next();
+            counts.merge(e.anomaly(), 1, Integer::sum);
+            switch (e.anomaly()) {
+                case NONE -> assertThat(e.imbalanceUnscaled()).isZero();
+                case UNBALANCED -> assertThat(e.imbalanceUnscaled()).isNotZero();
+                case DUPLICATE -> assertThat(e.transactionId()).isEqualTo(previousId);
+                case OUT_OF_ORDER -> assertThat(e.timestampNanos())
+                        .isBetween(previousTimestamp - 60_000_000_000L, previousTimestamp + 60_000_000_000L);
+            }
+            if (e.anomaly() != LedgerEntry.Anomaly.DUPLICATE) {
+                assertThat(e.transactionId()).isEqualTo(previousId + 1);
+            }
+            previousId = e.transactionId();
+            previousTimestamp = Math.max(previousTimestamp, e.timestampNanos());
+        }
+
+        assertThat(counts.get(LedgerEntry.Anomaly.UNBALANCED)).isBetween(4_500, 5_500);
+        assertThat(counts.get(LedgerEntry.Anomaly.DUPLICATE)).isBetween(1_700, 2_300);
+        assertThat(counts.get(LedgerEntry.Anomaly.OUT_OF_ORDER)).isBetween(2_600, 3_400);
+    }
+
+    @Test
+    void ledger_isReproducible() {
+        System.setProperty("jrandomly.seed", "3");
+        LedgerOptions options = LedgerOptions.builder().withDuplicateRate(0.1).build();
+        LedgerStream a = JRandomly.randomly("LedgerStreamTest#repro").finance().ledger(options);
+        LedgerStream b = JRandomly.randomly("LedgerStreamTest#repro").finance().ledger(options);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(a.next().toString()).isEqualTo(b.next().toString());
+        }
+    }
+
+    @Test
+    void options_rejectInvalidSettings() {
+        assertThatThrownBy(() -> LedgerOptions.builder().withMaxLegs(1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LedgerOptions.builder().withAccounts(3)
+                .withCurrencies(List.of(Currency.getInstance("EUR"), Currency.getInstance("USD"))).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LedgerOptions.builder().withUnbalancedRate(0.6).withDuplicateRate(0.5).build())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LedgerOptions.builder().withAmountRange(500, 100).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,162 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.JRandomly;
+import de.jinteg.randomly.internal.SplitMix64;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PricePathTest {
+
+    /**
+     * First prices of the Merton path for seed 42; guards the draw order of Gaussians and jumps.
+     */
+    private static final double[] PINNED_MERTON = {
+            100.0, 102.290514376185, 100.05090011700543, 102.25619326587571, 103.31141062385308, 103.27976292051777
+    };
+
+    @AfterEach
+    void cleanup() {
+        System.clearProperty("jrandomly.seed");
+    }
+
+    @Test
+    void pricePath_startsAtStockPriceAndIsReproducible() {
+        System.setProperty("jrandomly.seed", "5");
+        StockEntry stock = new StockEntry("ACME", "Acme Corp.", 1_000_000L, 42.5);
+
+        double[] a = JRandomly.randomly("PricePathTest#repro").finance().pricePath(stock, 1_000, PriceModel.gbm(0.05, 0.2));
+        double[] b = JRandomly.randomly("PricePathTest#repro").finance().pricePath(stock, 1_000, PriceModel.gbm(0.05, 0.2));
+
+        assertThat(a).hasSize(1_001).isEqualTo(b);
+        assertThat(a[0]).isEqualTo(42.5);
+        for (double price : a) {
+            assertThat(price).isPositive();
+        }
+    }
+
+    @Test
+    void gbm_logReturnsMatchModelMoments() {
+        PriceModel.Gbm model = new PriceModel.Gbm(0.1, 0.3, 1.0 / 252);
+        double[] path = new double[1_000_001];
+        JRandomly.randomly("PricePathTest#gbm").finance().pricePath(100, model, path);
+
+        double[] moments = logReturnMoments(path);
+        double dt = model.dt();
+        assertThat(moments[0]).isCloseTo((0.1 - 0.5 * 0.09) * dt, within(0.3 * Math.sqrt(dt) * 0.005));
+        assertThat(moments[1]).isCloseTo(0.3 * Math.sqrt(dt), within(0.3 * Math.sqrt(dt) * 0.01));
+    }
+
+    @Test
+    void merton_addsJumpsToDiffusion() {
+        PriceModel.Merton model = new PriceModel.Merton(0.05, 0.1, 25, -0.05, 0.02, 1.0 / 252);
+        double[] path = new double[1_000_001];
+        JRandomly.randomly("PricePathTest#merton").finance().pricePath(100, model, path);
+
+        double dt = model.dt();
+        double lambdaDt = model.jumpIntensity() * dt;
+        double expectedVariance = 0.01 * dt + lambdaDt * (0.05 * 0.05 + 0.02 * 0.02);
+        double[] moments = logReturnMoments(path);
+        assertThat(moments[1] * moments[1]).isCloseTo(expectedVariance, within(expectedVariance * 0.03));
+    }
+
+    @Test
+    void correlatedPricePaths_haveRequestedCorrelation() {
+        double[][] correlation = {{1, 0.8, 0.0}, {0.8, 1, -0.3}, {0.0, -0.3, 1}};
+        double[][] paths = new double[3][200_001];
+        JRandomly.randomly("PricePathTest#correlated").finance()
+                .correlatedPricePaths(new double[]{10, 20, 30}, correlation, PriceModel.gbm(0, 0.25), paths);
+
+        assertThat(paths[1][0]).isEqualTo(20);
+        assertThat(correlation(paths[0], paths[1])).isCloseTo(0.8, within(0.01));
+        assertThat(correlation(paths[1], paths[2])).isCloseTo(-0.3, within(0.01));
+        assertThat(correlation(paths[0], paths[2])).isCloseTo(0.0, within(0.01));
+    }
+
+    @Test
+    void correlatedPricePaths_rejectsNonPositiveDefiniteMatrix() {
+        double[][] correlation = {{1, 0.9, 0.9}, {0.9, 1, -0.9}, {0.9, -0.9, 1}};
+        FinanceRandomly finance = JRandomly.randomly("PricePathTest#invalid").finance();
+
+        assertThatThrownBy(() -> finance.correlatedPricePaths(new double[]{1, 1, 1}, correlation,
+                PriceModel.gbm(0, 0.2), new double[3][10]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double[] logReturnMoments(double[] path) {
+        int n = path.length - 1;
+        double sum = 0;
+        double sumSq = 0;
+        for (int i = 1; i <= n; i++) {
+            double r = Math.log(path[i] / path[i - 1]);
+            sum += r;
+            sumSq += r * r;
+        }
+        double mean = sum / n;
+        return new double[]{mean, Math.sqrt(sumSq / n - mean * mean)};
+    }
+
+    private static double correlation(double[] a, double[] b) {
+        int n = a.length - 1;
+        double sa = 0, sb = 0, saa = 0, sbb = 0, sab = 0;
+        for (int i = 1; i <= n; i++) {
+            double ra = Math.log(a[i] / a[i - 1]);
+            double rb = Math.log(b[i] / b[i - 1]);
+            sa += ra;
+            sb += rb;
+            saa += ra * ra;
+            sbb += rb * rb;
+            sab += ra * rb;
+        }
+        double cov = sab / n - (sa / n) * (sb / n);
+        return cov / Math.sqrt((saa / n - sa / n * sa / n) * (sbb / n - sb / n * sb / n));
+    }
+
+    @Test
+    void simulator_drawsOnlyTheGaussiansThePathNeeds() {
+        CountingGaussians rng = new CountingGaussians();
+        new PriceSimulator(PriceModel.gbm(0.05, 0.2), rng).fill(100, new double[21]);
+        assertThat(rng.gaussians).isEqualTo(20);
+
+        rng.gaussians = 0;
+        new PriceSimulator(PriceModel.gbm(0.05, 0.2), rng).fillCorrelated(
+                new double[]{100, 50}, PriceSimulator.cholesky(new double[][]{{1, 0.5}, {0.5, 1}}),
+                new double[2][5_001], 5_000);
+        assertThat(rng.gaussians).isEqualTo(10_000);
+    }
+
+    @Test
+    void merton_shortPathIsPinnedAndPrefixOfLongerPath() {
+        PriceModel model = PriceModel.merton(0.05, 0.2, 50, -0.05, 0.03);
+        double[] shortPath = new double[6];
+        double[] longPath = new double[10_001];
+        new PriceSimulator(model, new SplitMix64(42)).fill(100, shortPath);
+        new PriceSimulator(model, new SplitMix64(42)).fill(100, longPath);
+
+        assertThat(shortPath).containsExactly(PINNED_MERTON, within(1e-9));
+        for (int i = 0; i < shortPath.length; i++) {
+            assertThat(longPath[i]).isEqualTo(shortPath[i]);
+        }
+    }
+
+    private static final class CountingGaussians implements RandomGenerator {
+        private final RandomGenerator delegate = new SplitMix64(1);
+        private long gaussians;
+
+        @Override
+        public long nextLong() {
+            return delegate.nextLong();
+        }
+
+        @Override
+        public double nextGaussian() {
+            gaussians++;
+            return delegate.nextGaussian();
+        }
+    }
+}
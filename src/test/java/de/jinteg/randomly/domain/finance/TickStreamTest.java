@@ -0,0 +1,78 @@
+package de.jinteg.randomly.domain.finance;
+
+import de.jinteg.randomly.JRandomly;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TickStreamTest {
+
+    private static final Instant START = Instant.parse("2026-06-15T09:00:00Z");
+
+    @AfterEach
+    void cleanup() {
+        System.clearProperty("jrandomly.seed");
+        System.clearProperty("jrandomly.runStartTime");
+    }
+
+    @Test
+    void ticks_areOrderedConsistentAndReuseOneInstance() {
+        System.setProperty("jrandomly.runStartTime", START.toString());
+        TickStream stream = JRandomly.randomly("TickStreamTest#consistent").finance().ticks(Locale.US, 100_000);
+        long start = START.getEpochSecond() * 1_000_000_000L;
+
+        Tick first = stream.next();
+        long previous = start;
+        Map<Tick.Type, Integer> counts = new EnumMap<>(Tick.Type.class);
+        for (int i = 0; i < 100_000; i++) {
+            Tick t = i == 0 ? first : stream.next();
+            assertThat(t).isSameAs(first);
+            assertThat(t.timestampNanos()).isGreaterThanOrEqualTo(previous);
+            assertThat(t.bidPrice()).isPositive().isLessThan(t.askPrice());
+            assertThat(isCents(t.bidPrice()) && isCents(t.askPrice())).isTrue();
+            assertThat(t.bidSize()).isPositive();
+            assertThat(t.askSize()).isPositive();
+            if (t.type() == Tick.Type.TRADE) {
+                assertThat(t.price()).isIn(t.bidPrice(), t.askPrice());
+                assertThat(t.size()).isPositive();
+            }
+            previous = t.timestampNanos();
+            counts.merge(t.type(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get(Tick.Type.TRADE)).isBetween(9_000, 11_000);
+        assertThat(counts.get(Tick.Type.QUOTE)).isBetween(58_000, 62_000);
+        assertThat(counts.get(Tick.Type.BOOK_DELTA)).isBetween(28_000, 32_000);
+        // 100k ticks at 100k/s span about one second
+        assertThat(previous - start).isBetween(900_000_000L, 1_100_000_000L);
+    }
+
+    @Test
+    void ticks_areReproducible() {
+        System.setProperty("jrandomly.seed", "9");
+        TickStream a = JRandomly.randomly("TickStreamTest#repro").finance().ticks(Locale.GERMANY, 1_000);
+        TickStream b = JRandomly.randomly("TickStreamTest#repro").finance().ticks(Locale.GERMANY, 1_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(a.next().toString()).isEqualTo(b.next().toString());
+        }
+    }
+
+    @Test
+    void ticks_rejectsNonPositiveRate() {
+        FinanceRandomly finance = JRandomly.randomly("TickStreamTest#rate").finance();
+
+        assertThatThrownBy(() -> finance.ticks(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean isCents(double price) {
+        return Math.abs(price * 100 - Math.rint(price * 100)) < 1e-6;
+    }
+}
@@ -0,0 +1,61 @@
+package de.jinteg.randomly.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FeistelPermutationTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 3, 7, 64, 1000, 4097, 65_537})
+    void apply_isBijectionOnDomain(long domainSize) {
+        FeistelPermutation p = new FeistelPermutation(domainSize, 42L);
+        BitSet seen = new BitSet((int) domainSize);
+
+        for (long i = 0; i < domainSize; i++) {
+            long v = p.apply(i);
+            assertThat(v).isBetween(0L, domainSize - 1);
+            assertThat(seen.get((int) v)).as("duplicate image %d", v).isFalse();
+            seen.set((int) v);
+        }
+        assertThat(seen.cardinality()).isEqualTo((int) domainSize);
+    }
+
+    @Test
+    void apply_isDeterministicPerKey() {
+        FeistelPermutation a = new FeistelPermutation(1_000_000L, 7L);
+        FeistelPermutation b = new FeistelPermutation(1_000_000L, 7L);
+        FeistelPermutation c = new FeistelPermutation(1_000_000L, 8L);
+
+        assertThat(a.apply(123)).isEqualTo(b.apply(123));
+        assertThat(a.apply(123)).isNotEqualTo(c.apply(123));
+    }
+
+    @Test
+    void apply_supportsFullPositiveLongDomain() {
+        FeistelPermutation p = new FeistelPermutation(Long.MAX_VALUE, 1L);
+
+        for (long i = 0; i < 1_000; i++) {
+            assertThat(p.apply(i)).isNotNegative();
+        }
+        assertThat(p.apply(Long.MAX_VALUE - 1)).isNotNegative();
+    }
+
+    @Test
+    void apply_rejectsIndexOutsideDomain() {
+        FeistelPermutation p = new FeistelPermutation(10, 1L);
+
+        assertThatThrownBy(() -> p.apply(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> p.apply(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructor_rejectsEmptyDomain() {
+        assertThatThrownBy(() -> new FeistelPermutation(0, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
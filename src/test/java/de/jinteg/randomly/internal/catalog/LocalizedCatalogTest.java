@@ -0,0 +1,81 @@
+package de.jinteg.randomly.internal.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalizedCatalogTest {
+
+    private static final String NOUNS = "de/jinteg/randomly/catalog/text/nouns/nouns";
+
+    @Test
+    void handle_isResolvedOncePerLocale() {
+        LocalizedCatalog catalog = LocalizedCatalog.of(NOUNS);
+
+        assertThat(catalog.handle(Locale.GERMAN)).isSameAs(catalog.handle(Locale.GERMAN));
+        assertThat(catalog.handle(Locale.GERMAN)).isNotSameAs(catalog.handle(Locale.ENGLISH));
+    }
+
+    @Test
+    void handle_matchesNumberedList() {
+        CatalogHandle handle = LocalizedCatalog.of(NOUNS).handle(Locale.ENGLISH);
+
+        assertThat(handle.entries()).isEqualTo(NumberedPropertiesCatalog.loadList(NOUNS, Locale.ENGLISH));
+        assertThat(handle.size()).isEqualTo(handle.entries().size());
+        assertThat(handle.get(0)).isEqualTo(handle.entries().getFirst());
+    }
+
+    @Test
+    void utf8_matchesEntryEncoding() {
+        CatalogHandle handle = LocalizedCatalog.of(NOUNS).handle(Locale.GERMAN);
+
+        for (int i = 0; i < handle.size(); i++) {
+            assertThat(handle.utf8(i)).isEqualTo(handle.get(i).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void casingVariants_areBuiltOnceOnFirstUse() {
+        CatalogHandle handle = LocalizedCatalog.of(NOUNS).handle(Locale.GERMAN);
+
+        for (int i = 0; i < handle.size(); i++) {
+            String word = handle.get(i);
+            assertThat(handle.lowerCase(i)).isEqualTo(word.toLowerCase(Locale.GERMAN))
+                    .isSameAs(handle.lowerCase(i));
+            assertThat(handle.capitalized(i)).startsWith(word.substring(0, 1).toUpperCase(Locale.ROOT))
+                    .endsWith(word.substring(1))
+                    .isSameAs(handle.capitalized(i));
+            assertThat(handle.kebabCase(i)).isEqualTo(handle.lowerCase(i))
+                    .doesNotContain(" ")
+                    .isSameAs(handle.kebabCase(i));
+        }
+    }
+
+    @Test
+    void kebabCase_collapsesWhitespaceAndUnderscores() {
+        CatalogHandle handle = new CatalogHandle(
+                List.of("Big  Data", "snake_case_Word", " Leading and trailing ", "Tab\tand_ _mixed", "__x"),
+                Locale.ROOT);
+
+        assertThat(handle.kebabCase(0)).isEqualTo("big-data");
+        assertThat(handle.kebabCase(1)).isEqualTo("snake-case-word");
+        assertThat(handle.kebabCase(2)).isEqualTo("leading-and-trailing");
+        assertThat(handle.kebabCase(3)).isEqualTo("tab-and-mixed");
+        assertThat(handle.kebabCase(4)).isEqualTo("x");
+        assertThat(handle.capitalized(1)).isEqualTo("Snake_case_Word");
+    }
+
+    @Test
+    void handle_unsupportedLocale_throwsISE() {
+        LocalizedCatalog catalog = LocalizedCatalog.of(NOUNS);
+
+        assertThatThrownBy(() -> catalog.handle(Locale.ITALIAN))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Catalog not found");
+    }
+}
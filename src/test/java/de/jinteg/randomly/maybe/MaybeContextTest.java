@@ -4,8 +4,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.BitSet;
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MaybeContextTest {
@@ -58,4 +64,77 @@ class MaybeContextTest {
         assertTrue(absentRate >= minAbsent && absentRate <= maxAbsent,
                 "Absent-Rate above tolerated value: " + absentRate);
     }
-}
\ No newline at end of file
+
+    @Test
+    void primitiveVariants_returnValueOrSentinelWithSameDrawAsPresent() {
+        MaybeContext a = new MaybeContext(RandomGeneratorFactory.of("L64X128MixRandom").create(42), 0.5);
+        MaybeContext b = new MaybeContext(RandomGeneratorFactory.of("L64X128MixRandom").create(42), 0.5);
+
+        int present = 0;
+        for (int i = 0; i < 10_000; i++) {
+            boolean expected = b.present();
+            switch (i % 4) {
+                case 0 -> assertEquals(expected ? 7 : -1, a.maybeInt(7, -1));
+                case 1 -> assertEquals(expected ? 7L : Long.MIN_VALUE, a.maybeLong(7L, Long.MIN_VALUE));
+                case 2 -> assertEquals(expected ? 7.5 : Double.NaN, a.maybeDouble(7.5));
+                default -> assertEquals(expected ? "X" : null, a.pick("X"));
+            }
+            if (expected) present++;
+        }
+        assertTrue(present > 4_500 && present < 5_500, "Present count out of range: " + present);
+    }
+
+    @Test
+    void absentValues_shareOneInstance() {
+        MaybeContext ctx = new MaybeContext(RandomGenerator.getDefault(), 1.0);
+
+        assertSame(ctx.value("X"), ctx.value(42));
+        assertSame(ctx.text("X"), ctx.text("Y"));
+        assertNull(ctx.value("X").orNull());
+        assertEquals("", ctx.text("X").orEmpty());
+    }
+
+    @Test
+    void absentValueAndText_returnTheSharedInstanceOfTheSupplierVariants() {
+        MaybeContext ctx = new MaybeContext(RandomGenerator.getDefault(), 1.0);
+
+        assertSame(ctx.value(() -> "X"), ctx.value("Y"));
+        assertSame(ctx.value(() -> 1), ctx.value(2L));
+        assertSame(ctx.text(() -> "X"), ctx.text("Y"));
+    }
+
+    @Test
+    void presentValueAndText_wrapTheGivenValue() {
+        MaybeContext ctx = new MaybeContext(RandomGenerator.getDefault(), 0.0);
+
+        assertEquals("X", ctx.value("X").orNull());
+        assertEquals("Y", ctx.text("Y").orEmpty());
+    }
+
+    @ParameterizedTest(name = "nullMask matches absentProbability {0}")
+    @CsvSource({"0.0", "0.01", "0.125", "0.3", "0.5", "0.9", "0.999", "1.0"})
+    void nullMask_matchesAbsentProbability(double absentProbability) {
+        MaybeContext ctx = new MaybeContext(RandomGeneratorFactory.of("L64X128MixRandom").create(7), absentProbability);
+        int rows = 1_000_003;
+
+        BitSet nulls = ctx.nullMask(rows);
+        long[] presence = ctx.presenceMask(rows);
+
+        assertTrue(nulls.length() <= rows);
+        assertEquals((rows + 63) / 64, presence.length);
+        assertEquals(0L, presence[presence.length - 1] >>> (rows % 64));
+        int present = 0;
+        for (long word : presence) present += Long.bitCount(word);
+        double tolerance = 5 * Math.sqrt(rows * absentProbability * (1 - absentProbability)) + 1;
+        assertEquals(rows * absentProbability, nulls.cardinality(), tolerance);
+        assertEquals(rows * (1 - absentProbability), present, tolerance);
+    }
+
+    @Test
+    void nullMask_rejectsNegativeRows() {
+        MaybeContext ctx = new MaybeContext(RandomGenerator.getDefault(), 0.5);
+
+        assertThrows(IllegalArgumentException.class, () -> ctx.nullMask(-1));
+        assertEquals(0, ctx.presenceMask(0).length);
+    }
+}